@@ -51,7 +51,7 @@ public class App implements Callable<Integer> {
             }
 
             var schedules = parser.parseAndBuildSchedules(calendarPath);
-            schedules.values().forEach(repository::save);
+            repository.replaceAll(schedules);
 
             var blackouts = blackoutPath != null
                     ? parser.parseBlackouts(blackoutPath)
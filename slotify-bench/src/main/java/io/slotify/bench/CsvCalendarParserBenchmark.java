@@ -0,0 +1,73 @@
+package io.slotify.bench;
+
+import io.slotify.core.model.Schedule;
+import io.slotify.core.parser.CsvCalendarParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CsvCalendarParserBenchmark {
+
+    @Param({"100", "2000"})
+    int participants;
+
+    @Param({"20", "200"})
+    int eventsPerParticipant;
+
+    @Param({"0.3"})
+    double overlapDensity;
+
+    @Param({"1048576"})
+    int chunkSize;
+
+    private CsvCalendarParser parser;
+    private Path file;
+    private byte[] content;
+
+    @Setup
+    public void setUp() throws IOException {
+        var csv = SyntheticCalendar.of(participants, eventsPerParticipant, overlapDensity).toCsv();
+        content = csv.getBytes(StandardCharsets.UTF_8);
+        file = Files.createTempFile("slotify-bench", ".csv");
+        Files.write(file, content);
+        parser = new CsvCalendarParser(chunkSize);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Map<String, Schedule> parseFile() {
+        return parser.parseAndBuildSchedules(file);
+    }
+
+    @Benchmark
+    public Map<String, Schedule> parseStream() {
+        return parser.parseAndBuildSchedules(new ByteArrayInputStream(content), (bytes, events, participants) -> {});
+    }
+}
@@ -0,0 +1,59 @@
+package io.slotify.bench;
+
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScheduleBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"8", "64", "512"})
+    int events;
+
+    @Param({"0.3"})
+    double overlapDensity;
+
+    private Schedule schedule;
+    private TimeSlot[] probes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        var calendar = SyntheticCalendar.of(1, events, overlapDensity);
+        schedule = calendar.schedules().get(calendar.participantName(0));
+
+        var random = new Random(7);
+        probes = new TimeSlot[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            var start = 7 * 60 + random.nextInt(11 * 60);
+            probes[i] = TimeSlot.ofMinutes(start, start + 30);
+        }
+    }
+
+    @Benchmark
+    public boolean isBusyDuring() {
+        var probe = probes[next];
+        next = (next + 1) & (PROBES - 1);
+        return schedule.isBusyDuring(probe);
+    }
+}
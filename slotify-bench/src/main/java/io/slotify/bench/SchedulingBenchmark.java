@@ -0,0 +1,79 @@
+package io.slotify.bench;
+
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.InMemoryScheduleRepository;
+import io.slotify.core.service.BitsetSchedulingService;
+import io.slotify.core.service.DefaultSchedulingService;
+import io.slotify.core.service.ScheduleBitmapIndex;
+import io.slotify.core.service.SchedulingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SchedulingBenchmark {
+
+    private static final List<TimeSlot> BLACKOUTS = List.of(TimeSlot.ofMinutes(12 * 60, 13 * 60));
+    private static final Duration BUFFER = Duration.ofMinutes(10);
+
+    @Param({"default", "bitset"})
+    String engine;
+
+    @Param({"2", "10", "50"})
+    int required;
+
+    @Param({"5"})
+    int optional;
+
+    @Param({"8", "32"})
+    int eventsPerParticipant;
+
+    @Param({"0.3"})
+    double overlapDensity;
+
+    @Param({"30", "60"})
+    int durationMinutes;
+
+    private SchedulingService service;
+    private List<String> requiredParticipants;
+    private List<String> optionalParticipants;
+    private Duration duration;
+
+    @Setup
+    public void setUp() {
+        var calendar = SyntheticCalendar.of(required + optional, eventsPerParticipant, overlapDensity);
+        var repository = new InMemoryScheduleRepository();
+        repository.replaceAll(calendar.schedules());
+
+        var names = calendar.participantNames();
+        requiredParticipants = names.subList(0, required);
+        optionalParticipants = names.subList(required, required + optional);
+        duration = Duration.ofMinutes(durationMinutes);
+        service = "bitset".equals(engine)
+                ? new BitsetSchedulingService(repository, BLACKOUTS, BUFFER, new ScheduleBitmapIndex())
+                : new DefaultSchedulingService(repository, BLACKOUTS, BUFFER);
+    }
+
+    @Benchmark
+    public List<AvailableSlot> findAvailableSlots() {
+        return service.findAvailableSlots(requiredParticipants, optionalParticipants, duration);
+    }
+}
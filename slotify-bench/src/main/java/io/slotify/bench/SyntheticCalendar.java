@@ -0,0 +1,117 @@
+package io.slotify.bench;
+
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public final class SyntheticCalendar {
+
+    private static final int WINDOW_START = 6 * 60;
+    private static final int WINDOW_END = 21 * 60;
+    private static final int MIN_EVENT_MINUTES = 15;
+    private static final int MAX_EVENT_MINUTES = 90;
+    private static final long DEFAULT_SEED = 42;
+
+    private final int participants;
+    private final int eventsPerParticipant;
+    private final double overlapDensity;
+    private final long seed;
+
+    private SyntheticCalendar(int participants, int eventsPerParticipant, double overlapDensity, long seed) {
+        if (participants < 1 || eventsPerParticipant < 0) {
+            throw new IllegalArgumentException("Participant and event counts must be positive");
+        }
+        if (overlapDensity < 0 || overlapDensity > 1) {
+            throw new IllegalArgumentException("Overlap density must be between 0 and 1");
+        }
+        this.participants = participants;
+        this.eventsPerParticipant = eventsPerParticipant;
+        this.overlapDensity = overlapDensity;
+        this.seed = seed;
+    }
+
+    public static SyntheticCalendar of(int participants, int eventsPerParticipant, double overlapDensity) {
+        return new SyntheticCalendar(participants, eventsPerParticipant, overlapDensity, DEFAULT_SEED);
+    }
+
+    public SyntheticCalendar withSeed(long seed) {
+        return new SyntheticCalendar(participants, eventsPerParticipant, overlapDensity, seed);
+    }
+
+    public List<String> participantNames() {
+        var names = new ArrayList<String>(participants);
+        for (int i = 0; i < participants; i++) {
+            names.add(participantName(i));
+        }
+        return names;
+    }
+
+    public String participantName(int index) {
+        return "Participant%05d".formatted(index);
+    }
+
+    public List<TimeSlot> events(int participantIndex) {
+        var random = new Random(seed * 31 + participantIndex);
+        var events = new ArrayList<TimeSlot>(eventsPerParticipant);
+        var maxGap = Math.max(0, (WINDOW_END - WINDOW_START) / Math.max(1, eventsPerParticipant) - (MIN_EVENT_MINUTES + MAX_EVENT_MINUTES) / 2);
+        var cursor = WINDOW_START;
+        TimeSlot previous = null;
+
+        for (int i = 0; i < eventsPerParticipant; i++) {
+            var length = MIN_EVENT_MINUTES + random.nextInt(MAX_EVENT_MINUTES - MIN_EVENT_MINUTES + 1);
+            int start;
+            if (previous != null && random.nextDouble() < overlapDensity) {
+                start = previous.startMinute() + random.nextInt(previous.endMinute() - previous.startMinute());
+            } else {
+                start = cursor + random.nextInt(maxGap + 1);
+            }
+            if (start + length > WINDOW_END) {
+                start = WINDOW_START + random.nextInt(WINDOW_END - WINDOW_START - length);
+            }
+            previous = TimeSlot.ofMinutes(start, start + length);
+            cursor = Math.max(cursor, previous.endMinute());
+            events.add(previous);
+        }
+        return events;
+    }
+
+    public Map<String, Schedule> schedules() {
+        var schedules = new HashMap<String, Schedule>();
+        for (int i = 0; i < participants; i++) {
+            var name = participantName(i);
+            schedules.put(name, new Schedule(name, events(i)));
+        }
+        return schedules;
+    }
+
+    public String toCsv() {
+        var csv = new StringBuilder();
+        for (int i = 0; i < participants; i++) {
+            var name = participantName(i);
+            var events = events(i);
+            for (int e = 0; e < events.size(); e++) {
+                var slot = events.get(e);
+                csv.append(name).append(",Event ").append(e).append(',')
+                        .append(formatMinute(slot.startMinute())).append(',')
+                        .append(formatMinute(slot.endMinute())).append('\n');
+            }
+        }
+        return csv.toString();
+    }
+
+    public void writeCsv(Path path) throws IOException {
+        Files.writeString(path, toCsv());
+    }
+
+    private static String formatMinute(int minute) {
+        return "%d:%02d".formatted(minute / 60, minute % 60);
+    }
+}
@@ -0,0 +1,44 @@
+package io.slotify.bench;
+
+import io.slotify.core.model.TimeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TimeSlotBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int slots;
+
+    @Param({"0.1", "0.5", "0.9"})
+    double overlapDensity;
+
+    private List<TimeSlot> events;
+
+    @Setup
+    public void setUp() {
+        events = SyntheticCalendar.of(1, slots, overlapDensity).events(0);
+    }
+
+    @Benchmark
+    public List<TimeSlot> mergeOverlapping() {
+        return TimeSlot.mergeOverlapping(events);
+    }
+}
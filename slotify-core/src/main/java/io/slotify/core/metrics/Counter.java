@@ -0,0 +1,69 @@
+package io.slotify.core.metrics;
+
+import io.slotify.core.exception.SchedulerException;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public final class Counter extends Metric<LongSupplier> {
+
+    Counter(String name, String help, List<String> labelNames) {
+        super(name, help, labelNames);
+    }
+
+    public Child labels(String... labelValues) {
+        if (child(Child::new, labelValues) instanceof Child child) {
+            return child;
+        }
+        throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT,
+                "Metric %s is read from a registered supplier for these labels".formatted(name()));
+    }
+
+    public void register(LongSupplier value, String... labelValues) {
+        child(() -> value, labelValues);
+    }
+
+    public void inc() {
+        labels().inc();
+    }
+
+    public void inc(long amount) {
+        labels().inc(amount);
+    }
+
+    @Override
+    String type() {
+        return "counter";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out, String labels, LongSupplier child) {
+        writeSample(out, name(), labels, Long.toString(child.getAsLong()));
+    }
+
+    public static final class Child implements LongSupplier {
+
+        private final LongAdder value = new LongAdder();
+
+        private Child() {
+        }
+
+        public void inc() {
+            value.increment();
+        }
+
+        public void inc(long amount) {
+            value.add(amount);
+        }
+
+        public long value() {
+            return value.sum();
+        }
+
+        @Override
+        public long getAsLong() {
+            return value();
+        }
+    }
+}
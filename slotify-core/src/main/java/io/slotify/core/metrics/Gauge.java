@@ -0,0 +1,25 @@
+package io.slotify.core.metrics;
+
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+public final class Gauge extends Metric<DoubleSupplier> {
+
+    Gauge(String name, String help, List<String> labelNames) {
+        super(name, help, labelNames);
+    }
+
+    public void register(DoubleSupplier value, String... labelValues) {
+        child(() -> value, labelValues);
+    }
+
+    @Override
+    String type() {
+        return "gauge";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out, String labels, DoubleSupplier child) {
+        writeSample(out, name(), labels, format(child.getAsDouble()));
+    }
+}
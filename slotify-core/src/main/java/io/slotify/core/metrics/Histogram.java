@@ -0,0 +1,92 @@
+package io.slotify.core.metrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Histogram extends Metric<Histogram.Child> {
+
+    static final double[] LATENCY_BUCKETS = {
+            0.00001, 0.000025, 0.00005, 0.0001, 0.00025, 0.0005,
+            0.001, 0.0025, 0.005, 0.01, 0.025, 0.05,
+            0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    private final double[] buckets;
+
+    Histogram(String name, String help, double[] buckets, List<String> labelNames) {
+        super(name, help, labelNames);
+        this.buckets = buckets.clone();
+    }
+
+    public Child labels(String... labelValues) {
+        return child(() -> new Child(buckets), labelValues);
+    }
+
+    public void observe(double value) {
+        labels().observe(value);
+    }
+
+    double[] buckets() {
+        return buckets.clone();
+    }
+
+    @Override
+    String type() {
+        return "histogram";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out, String labels, Child child) {
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += child.bucketCounts[i].sum();
+            writeSample(out, name() + "_bucket", withLabel(labels, "le", format(buckets[i])), Long.toString(cumulative));
+        }
+        var count = cumulative + child.bucketCounts[buckets.length].sum();
+        writeSample(out, name() + "_bucket", withLabel(labels, "le", "+Inf"), Long.toString(count));
+        writeSample(out, name() + "_sum", labels, format(child.sum.sum()));
+        writeSample(out, name() + "_count", labels, Long.toString(count));
+    }
+
+    public static final class Child {
+
+        private final double[] buckets;
+        private final LongAdder[] bucketCounts;
+        private final DoubleAdder sum = new DoubleAdder();
+
+        private Child(double[] buckets) {
+            this.buckets = buckets;
+            this.bucketCounts = new LongAdder[buckets.length + 1];
+            for (int i = 0; i < bucketCounts.length; i++) {
+                bucketCounts[i] = new LongAdder();
+            }
+        }
+
+        public void observe(double value) {
+            int bucket = 0;
+            while (bucket < buckets.length && value > buckets[bucket]) {
+                bucket++;
+            }
+            bucketCounts[bucket].increment();
+            sum.add(value);
+        }
+
+        public void observeNanos(long nanos) {
+            observe(nanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        public long count() {
+            long count = 0;
+            for (var bucketCount : bucketCounts) {
+                count += bucketCount.sum();
+            }
+            return count;
+        }
+
+        public double sum() {
+            return sum.sum();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.slotify.core.metrics;
+
+import io.slotify.core.exception.SchedulerException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+abstract sealed class Metric<C> permits Counter, Gauge, Histogram {
+
+    private static final Comparator<List<String>> LABEL_ORDER = (a, b) -> Arrays.compare(a.toArray(String[]::new), b.toArray(String[]::new));
+
+    private final String name;
+    private final String help;
+    private final List<String> labelNames;
+    private final Map<List<String>, C> children = new ConcurrentHashMap<>();
+
+    Metric(String name, String help, List<String> labelNames) {
+        this.name = name;
+        this.help = help;
+        this.labelNames = List.copyOf(labelNames);
+    }
+
+    String name() {
+        return name;
+    }
+
+    List<String> labelNames() {
+        return labelNames;
+    }
+
+    abstract String type();
+
+    abstract void writeSamples(StringBuilder out, String labels, C child);
+
+    C child(Supplier<C> factory, String... labelValues) {
+        if (labelValues.length != labelNames.size()) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT,
+                    "Metric %s expects %d label values, got %d".formatted(name, labelNames.size(), labelValues.length));
+        }
+        return children.computeIfAbsent(List.of(labelValues), key -> factory.get());
+    }
+
+    void writeTo(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type()).append('\n');
+        var keys = new ArrayList<>(children.keySet());
+        keys.sort(LABEL_ORDER);
+        for (var key : keys) {
+            writeSamples(out, formatLabels(key), children.get(key));
+        }
+    }
+
+    private String formatLabels(List<String> values) {
+        if (values.isEmpty()) {
+            return "";
+        }
+        var labels = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            labels.append(i == 0 ? "" : ",").append(labelNames.get(i)).append("=\"").append(escape(values.get(i))).append('"');
+        }
+        return labels.toString();
+    }
+
+    static String withLabel(String labels, String name, String value) {
+        var label = name + "=\"" + escape(value) + "\"";
+        return labels.isEmpty() ? label : labels + "," + label;
+    }
+
+    static void writeSample(StringBuilder out, String name, String labels, String value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,62 @@
+package io.slotify.core.metrics;
+
+import io.slotify.core.exception.SchedulerException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+public class MetricsRegistry {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final Map<String, Metric<?>> metrics = new ConcurrentHashMap<>();
+
+    public Counter counter(String name, String help, String... labelNames) {
+        return register(new Counter(name, help, List.of(labelNames)), Counter.class);
+    }
+
+    public void counter(String name, String help, LongSupplier value) {
+        counter(name, help).register(value);
+    }
+
+    public Histogram histogram(String name, String help, String... labelNames) {
+        return histogram(name, help, Histogram.LATENCY_BUCKETS, labelNames);
+    }
+
+    public Histogram histogram(String name, String help, double[] buckets, String... labelNames) {
+        var histogram = register(new Histogram(name, help, buckets, List.of(labelNames)), Histogram.class);
+        if (!Arrays.equals(histogram.buckets(), buckets)) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT,
+                    "Metric %s is already registered with different buckets".formatted(name));
+        }
+        return histogram;
+    }
+
+    public Gauge gauge(String name, String help, String... labelNames) {
+        return register(new Gauge(name, help, List.of(labelNames)), Gauge.class);
+    }
+
+    public void gauge(String name, String help, DoubleSupplier value) {
+        gauge(name, help).register(value);
+    }
+
+    public String scrape() {
+        var out = new StringBuilder();
+        new TreeMap<>(metrics).values().forEach(metric -> metric.writeTo(out));
+        return out.toString();
+    }
+
+    private <M extends Metric<?>> M register(M metric, Class<M> type) {
+        var existing = metrics.computeIfAbsent(metric.name(), name -> metric);
+        if (!type.isInstance(existing) || !existing.labelNames().equals(metric.labelNames())) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT,
+                    "Metric %s is already registered as a different %s".formatted(metric.name(), existing.type()));
+        }
+        return type.cast(existing);
+    }
+}
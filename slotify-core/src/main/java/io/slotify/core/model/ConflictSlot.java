@@ -0,0 +1,16 @@
+package io.slotify.core.model;
+
+import java.util.List;
+import java.util.Objects;
+
+public record ConflictSlot(
+        TimeSlot timeSlot,
+        List<String> conflictingParticipants) {
+
+    public ConflictSlot {
+        Objects.requireNonNull(timeSlot, "timeSlot cannot be null");
+        conflictingParticipants = conflictingParticipants != null
+                ? List.copyOf(conflictingParticipants)
+                : List.of();
+    }
+}
@@ -0,0 +1,22 @@
+package io.slotify.core.model;
+
+import java.time.Duration;
+import java.util.List;
+
+public record MeetingQuery(
+        List<String> requiredParticipants,
+        List<String> optionalParticipants,
+        Duration meetingDuration,
+        Duration bufferBetweenMeetings,
+        List<TimeSlot> blackoutPeriods) {
+
+    public MeetingQuery {
+        requiredParticipants = requiredParticipants != null ? List.copyOf(requiredParticipants) : null;
+        optionalParticipants = optionalParticipants != null ? List.copyOf(optionalParticipants) : List.of();
+        blackoutPeriods = blackoutPeriods != null ? List.copyOf(blackoutPeriods) : List.of();
+    }
+
+    public MeetingQuery(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        this(requiredParticipants, optionalParticipants, meetingDuration, null, List.of());
+    }
+}
@@ -0,0 +1,20 @@
+package io.slotify.core.model;
+
+import io.slotify.core.exception.SchedulerException;
+
+import java.util.List;
+
+public record MeetingQueryResult(List<AvailableSlot> slots, SchedulerException error) {
+
+    public static MeetingQueryResult success(List<AvailableSlot> slots) {
+        return new MeetingQueryResult(List.copyOf(slots), null);
+    }
+
+    public static MeetingQueryResult failure(SchedulerException error) {
+        return new MeetingQueryResult(List.of(), error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,16 @@
+package io.slotify.core.model;
+
+import java.util.List;
+import java.util.Objects;
+
+public record QuorumSlot(
+        TimeSlot timeSlot,
+        List<String> availableParticipants) {
+
+    public QuorumSlot {
+        Objects.requireNonNull(timeSlot, "timeSlot cannot be null");
+        availableParticipants = availableParticipants != null
+                ? List.copyOf(availableParticipants)
+                : List.of();
+    }
+}
@@ -2,28 +2,190 @@ package io.slotify.core.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.slotify.core.exception.SchedulerException;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
-public record Schedule(String participantName, List<TimeSlot> busySlots) {
+public final class Schedule {
+
+    private static final int[] NO_BUSY_MINUTES = new int[0];
+
+    private final String participantName;
+    private final int[] busyMinutes;
+    private int hash;
 
     @JsonCreator
     public Schedule(
             @JsonProperty("participantName") String participantName,
             @JsonProperty("busySlots") List<TimeSlot> busySlots) {
-        this.participantName = Objects.requireNonNull(participantName);
-        this.busySlots = busySlots != null ? List.copyOf(busySlots) : List.of();
+        this(Objects.requireNonNull(participantName), encode(busySlots));
+    }
+
+    private Schedule(String participantName, int[] busyMinutes) {
+        this.participantName = participantName;
+        this.busyMinutes = busyMinutes;
     }
 
     public static Schedule fromEvents(String participantName, List<CalendarEvent> events) {
         var slots = events.stream()
                 .map(CalendarEvent::timeSlot)
                 .toList();
-        return new Schedule(participantName, TimeSlot.mergeOverlapping(slots));
+        return new Schedule(participantName, slots);
+    }
+
+    public static Schedule ofMinutes(String participantName, int[] busyMinutes) {
+        Objects.requireNonNull(participantName);
+        if (busyMinutes.length % 2 != 0) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_TIME_RANGE,
+                    "Busy minutes must be start/end pairs");
+        }
+        var pairs = busyMinutes.clone();
+        for (int i = 0; i < pairs.length; i += 2) {
+            if (pairs[i] < 0 || pairs[i + 1] > TimeSlot.MINUTES_PER_DAY || pairs[i + 1] <= pairs[i]) {
+                throw new SchedulerException(SchedulerException.ErrorType.INVALID_TIME_RANGE,
+                        "Invalid busy range %d-%d".formatted(pairs[i], pairs[i + 1]));
+            }
+        }
+        return new Schedule(participantName, normalize(pairs));
+    }
+
+    @JsonProperty("participantName")
+    public String participantName() {
+        return participantName;
+    }
+
+    @JsonProperty("busySlots")
+    public List<TimeSlot> busySlots() {
+        return new BusySlotsView(busyMinutes);
+    }
+
+    public int busySlotCount() {
+        return busyMinutes.length / 2;
+    }
+
+    public int busyStartMinute(int index) {
+        return busyMinutes[index * 2];
+    }
+
+    public int busyEndMinute(int index) {
+        return busyMinutes[index * 2 + 1];
     }
 
     public boolean isBusyDuring(TimeSlot timeSlot) {
-        return busySlots.stream().anyMatch(slot -> slot.overlaps(timeSlot));
+        return isBusyDuring(TimeSlot.toMinuteOfDay(timeSlot.start()), TimeSlot.ceilMinuteOfDay(timeSlot.end()));
+    }
+
+    public boolean isBusyDuring(int startMinute, int endMinute) {
+        int low = 0;
+        int high = busySlotCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (busyEndMinute(mid) <= startMinute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < busySlotCount() && busyStartMinute(low) < endMinute;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Schedule other
+                && participantName.equals(other.participantName)
+                && Arrays.equals(busyMinutes, other.busyMinutes);
+    }
+
+    @Override
+    public int hashCode() {
+        var h = hash;
+        if (h == 0) {
+            h = 31 * participantName.hashCode() + Arrays.hashCode(busyMinutes);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "Schedule[participantName=%s, busySlots=%s]".formatted(participantName, busySlots());
+    }
+
+    private static int[] encode(List<TimeSlot> busySlots) {
+        if (busySlots == null || busySlots.isEmpty()) {
+            return NO_BUSY_MINUTES;
+        }
+        var pairs = new int[busySlots.size() * 2];
+        for (int i = 0; i < busySlots.size(); i++) {
+            var slot = busySlots.get(i);
+            if (!slot.isMinuteAligned()) {
+                throw new SchedulerException(SchedulerException.ErrorType.INVALID_TIME_RANGE,
+                        "Busy slot %s must start and end on whole minutes".formatted(slot));
+            }
+            pairs[i * 2] = slot.startMinute();
+            pairs[i * 2 + 1] = slot.endMinute();
+        }
+        return normalize(pairs);
+    }
+
+    private static int[] normalize(int[] pairs) {
+        if (pairs.length == 0) {
+            return NO_BUSY_MINUTES;
+        }
+        if (isSortedAndDisjoint(pairs)) {
+            return pairs;
+        }
+
+        var packed = new long[pairs.length / 2];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = ((long) pairs[i * 2] << 32) | pairs[i * 2 + 1];
+        }
+        Arrays.sort(packed);
+
+        int count = 0;
+        for (long range : packed) {
+            int start = (int) (range >>> 32);
+            int end = (int) range;
+            if (count > 0 && start <= pairs[count - 1]) {
+                pairs[count - 1] = Math.max(pairs[count - 1], end);
+            } else {
+                pairs[count++] = start;
+                pairs[count++] = end;
+            }
+        }
+        return count == pairs.length ? pairs : Arrays.copyOf(pairs, count);
+    }
+
+    private static boolean isSortedAndDisjoint(int[] pairs) {
+        for (int i = 2; i < pairs.length; i += 2) {
+            if (pairs[i] <= pairs[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class BusySlotsView extends AbstractList<TimeSlot> implements RandomAccess {
+
+        private final int[] busyMinutes;
+
+        private BusySlotsView(int[] busyMinutes) {
+            this.busyMinutes = busyMinutes;
+        }
+
+        @Override
+        public TimeSlot get(int index) {
+            Objects.checkIndex(index, size());
+            return TimeSlot.ofMinutes(busyMinutes[index * 2], busyMinutes[index * 2 + 1]);
+        }
+
+        @Override
+        public int size() {
+            return busyMinutes.length / 2;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package io.slotify.core.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.slotify.core.exception.SchedulerException;
 
 import java.time.Duration;
@@ -10,6 +11,17 @@ import java.util.List;
 
 public record TimeSlot(LocalTime start, LocalTime end) {
 
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final LocalTime[] TIMES_BY_MINUTE = new LocalTime[MINUTES_PER_DAY + 1];
+
+    static {
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            TIMES_BY_MINUTE[minute] = LocalTime.of(minute / 60, minute % 60);
+        }
+        TIMES_BY_MINUTE[MINUTES_PER_DAY] = LocalTime.MAX;
+    }
+
     public TimeSlot {
         if (start == null || end == null) {
             throw new SchedulerException(SchedulerException.ErrorType.INVALID_TIME_RANGE, "Start and end times cannot be null");
@@ -38,6 +50,19 @@ public record TimeSlot(LocalTime start, LocalTime end) {
         return new TimeSlot(newStart, newEnd);
     }
 
+    @JsonIgnore
+    public boolean isMinuteAligned() {
+        return isMinuteAligned(start) && isMinuteAligned(end);
+    }
+
+    public int startMinute() {
+        return toMinuteOfDay(start);
+    }
+
+    public int endMinute() {
+        return toMinuteOfDay(end);
+    }
+
     @Override
     public String toString() {
         return "%s-%s".formatted(start, end);
@@ -78,4 +103,25 @@ public record TimeSlot(LocalTime start, LocalTime end) {
     public static LocalTime min(LocalTime first, LocalTime second) {
         return first.isBefore(second) ? first : second;
     }
+
+    public static TimeSlot ofMinutes(int startMinute, int endMinute) {
+        return new TimeSlot(toLocalTime(startMinute), toLocalTime(endMinute));
+    }
+
+    public static int toMinuteOfDay(LocalTime time) {
+        return time.equals(LocalTime.MAX) ? MINUTES_PER_DAY : time.getHour() * 60 + time.getMinute();
+    }
+
+    public static int ceilMinuteOfDay(LocalTime time) {
+        var minute = toMinuteOfDay(time);
+        return isMinuteAligned(time) ? minute : minute + 1;
+    }
+
+    public static LocalTime toLocalTime(int minuteOfDay) {
+        return TIMES_BY_MINUTE[minuteOfDay];
+    }
+
+    private static boolean isMinuteAligned(LocalTime time) {
+        return time.equals(LocalTime.MAX) || (time.getSecond() == 0 && time.getNano() == 0);
+    }
 }
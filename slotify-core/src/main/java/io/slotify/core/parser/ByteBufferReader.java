@@ -0,0 +1,40 @@
+package io.slotify.core.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+
+final class ByteBufferReader extends Reader {
+
+    private final ByteBuffer source;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+    private boolean finished;
+
+    ByteBufferReader(ByteBuffer source) {
+        this.source = source;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (finished) {
+            return -1;
+        }
+        var target = CharBuffer.wrap(buffer, offset, length);
+        var result = decoder.decode(source, target, true);
+        if (result.isError()) {
+            result.throwException();
+        }
+        if (result.isUnderflow()) {
+            finished = decoder.flush(target).isUnderflow();
+        }
+        int count = target.position() - offset;
+        return count == 0 && finished ? -1 : count;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -3,6 +3,7 @@ package io.slotify.core.parser;
 import io.slotify.core.model.Schedule;
 import io.slotify.core.model.TimeSlot;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
@@ -11,5 +12,7 @@ public interface CalendarParser {
 
     Map<String, Schedule> parseAndBuildSchedules(Path path);
 
+    Map<String, Schedule> parseAndBuildSchedules(InputStream input, ParseProgressListener progressListener);
+
     List<TimeSlot> parseBlackouts(Path path);
 }
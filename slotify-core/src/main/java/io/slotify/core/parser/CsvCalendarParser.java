@@ -2,38 +2,82 @@ package io.slotify.core.parser;
 
 import io.slotify.core.model.Constants;
 import io.slotify.core.exception.SchedulerException;
-import io.slotify.core.model.CalendarEvent;
 import io.slotify.core.model.Schedule;
 import io.slotify.core.model.TimeSlot;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class CsvCalendarParser implements CalendarParser {
 
-    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("H:mm");
+    private static final int MAX_HOUR_DIGITS = 19;
     private static final int MAX_LINE_LENGTH = 2000;
-    private static final int MAX_LINES = 10000;
     private static final int MAX_SUBJECT_LENGTH = 500;
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+    private static final int PROGRESS_INTERVAL_EVENTS = 10_000;
+
+    private final int chunkSize;
+
+    public CsvCalendarParser() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public CsvCalendarParser(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
 
     @Override
     public Map<String, Schedule> parseAndBuildSchedules(Path csvPath) {
-        var events = parseCsv(csvPath, 4, this::parseEventLine);
-        return events.stream()
-                .collect(Collectors.groupingBy(CalendarEvent::participantName))
-                .entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> Schedule.fromEvents(e.getKey(), e.getValue())
-                ));
+        try (var channel = FileChannel.open(csvPath, StandardOpenOption.READ)) {
+            if (channel.size() <= chunkSize) {
+                var collector = new ScheduleCollector();
+                readCsv(new ByteBufferReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())), 0, 4, collector);
+                return collector.schedules();
+            }
+            return parseInParallel(channel, csvPath);
+        } catch (IOException e) {
+            throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
+                    "Failed to read file: " + csvPath, e);
+        }
+    }
+
+    @Override
+    public Map<String, Schedule> parseAndBuildSchedules(InputStream input, ParseProgressListener progressListener) {
+        var counting = new CountingInputStream(input);
+        var collector = new ScheduleCollector();
+        var events = new int[1];
+        try {
+            var reader = new InputStreamReader(counting, StandardCharsets.UTF_8.newDecoder());
+            readCsv(reader, 0, 4, record -> {
+                collector.handle(record);
+                if (++events[0] % PROGRESS_INTERVAL_EVENTS == 0) {
+                    progressListener.progress(counting.count(), events[0], collector.participantCount());
+                }
+            });
+        } catch (IOException e) {
+            throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
+                    "Failed to read upload: " + e.getMessage(), e);
+        }
+        progressListener.progress(counting.count(), events[0], collector.participantCount());
+        return collector.schedules();
     }
 
     @Override
@@ -41,113 +85,248 @@ public class CsvCalendarParser implements CalendarParser {
         if (!Files.exists(blackoutPath)) {
             return List.of();
         }
-        return parseCsv(blackoutPath, 2, this::parseBlackoutLine);
+        var blackouts = new ArrayList<TimeSlot>();
+        readCsv(blackoutPath, 2, record -> {
+            var start = parseTime(record, 0);
+            var end = parseTime(record, 1);
+            blackouts.add(new TimeSlot(TimeSlot.toLocalTime(start), TimeSlot.toLocalTime(end)));
+        });
+        return List.copyOf(blackouts);
     }
 
-    private <T> List<T> parseCsv(Path path, int expectedColumns, LineParser<T> parser) {
-        try {
-            var lines = Files.readAllLines(path);
-            if (lines.size() > MAX_LINES) {
-                throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
-                        "File has too many lines (max %d)".formatted(MAX_LINES));
+    private Map<String, Schedule> parseInParallel(FileChannel channel, Path path) throws IOException {
+        var chunks = mapChunks(channel);
+        var lineCounts = chunks.parallelStream().mapToInt(CsvCalendarParser::countLines).toArray();
+        var linesBefore = new int[chunks.size()];
+        for (int i = 1; i < chunks.size(); i++) {
+            linesBefore[i] = linesBefore[i - 1] + lineCounts[i - 1];
+        }
+
+        var results = IntStream.range(0, chunks.size()).parallel()
+                .mapToObj(i -> parseChunk(chunks.get(i), linesBefore[i], path))
+                .toList();
+
+        var merged = new ScheduleCollector();
+        for (var result : results) {
+            if (result.error() != null) {
+                throw result.error();
             }
-            var results = new ArrayList<T>();
+            merged.merge(result.collector());
+        }
+        return merged.schedules();
+    }
+
+    private ChunkResult parseChunk(ByteBuffer chunk, int linesBefore, Path path) {
+        var collector = new ScheduleCollector();
+        try {
+            readCsv(new ByteBufferReader(chunk), linesBefore, 4, collector);
+            return new ChunkResult(collector, null);
+        } catch (SchedulerException e) {
+            return new ChunkResult(null, e);
+        } catch (IOException e) {
+            return new ChunkResult(null, new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
+                    "Failed to read file: " + path, e));
+        }
+    }
+
+    private List<ByteBuffer> mapChunks(FileChannel channel) throws IOException {
+        var chunks = new ArrayList<ByteBuffer>();
+        var scanBuffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long size = channel.size();
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, scanBuffer);
+            chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+            start = end;
+        }
+        return chunks;
+    }
 
-            for (int i = 0; i < lines.size(); i++) {
-                var line = lines.get(i);
-                if (line.length() > MAX_LINE_LENGTH) {
-                    throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
-                            "Line %d is too long (max %d characters)".formatted(i + 1, MAX_LINE_LENGTH));
+    private static long nextLineStart(FileChannel channel, long position, ByteBuffer scanBuffer) throws IOException {
+        boolean afterCarriageReturn = false;
+        while (true) {
+            scanBuffer.clear();
+            int read = channel.read(scanBuffer, position);
+            if (read <= 0) {
+                return position;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = scanBuffer.get(i);
+                if (afterCarriageReturn) {
+                    return b == '\n' ? position + i + 1 : position + i;
                 }
-                line = line.trim();
-                if (line.isEmpty()) continue;
-
-                var parts = parseCsvLine(line);
-                if (parts.size() != expectedColumns) {
-                    throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
-                            "Invalid format at line %d: expected %d columns, got %d"
-                                    .formatted(i + 1, expectedColumns, parts.size()));
+                if (b == '\n') {
+                    return position + i + 1;
                 }
-                results.add(parser.parse(parts.toArray(new String[0]), i + 1));
+                afterCarriageReturn = b == '\r';
+            }
+            position += read;
+        }
+    }
+
+    private static int countLines(ByteBuffer chunk) {
+        int lines = 0;
+        int limit = chunk.limit();
+        for (int i = 0; i < limit; i++) {
+            byte b = chunk.get(i);
+            if (b == '\n') {
+                lines++;
+            } else if (b == '\r' && (i + 1 == limit || chunk.get(i + 1) != '\n')) {
+                lines++;
             }
+        }
+        return lines;
+    }
 
-            return List.copyOf(results);
+    private void readCsv(Path path, int expectedColumns, RecordHandler handler) {
+        try (var reader = Files.newBufferedReader(path)) {
+            readCsv(reader, 0, expectedColumns, handler);
         } catch (IOException e) {
             throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
                     "Failed to read file: " + path, e);
         }
     }
 
-    private List<String> parseCsvLine(String line) {
-        var fields = new ArrayList<String>();
-        var current = new StringBuilder();
-        boolean inQuotes = false;
-        boolean fieldStarted = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    current.append('"');
-                    i++;
-                } else if (inQuotes) {
-                    inQuotes = false;
-                } else if (!fieldStarted || current.length() == 0) {
-                    inQuotes = true;
-                    fieldStarted = true;
-                } else {
-                    current.append(c);
-                }
-            } else if (c == ',' && !inQuotes) {
-                fields.add(current.toString());
-                current = new StringBuilder();
-                fieldStarted = false;
-            } else {
-                current.append(c);
-                fieldStarted = true;
+    private void readCsv(Reader reader, int linesBefore, int expectedColumns, RecordHandler handler) throws IOException {
+        var record = new CsvRecordReader(reader, MAX_LINE_LENGTH, linesBefore);
+        while (record.next()) {
+            if (record.fieldCount() != expectedColumns) {
+                throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
+                        "Invalid format at line %d: expected %d columns, got %d"
+                                .formatted(record.lineNumber(), expectedColumns, record.fieldCount()));
             }
+            handler.handle(record);
         }
-        fields.add(current.toString());
-        return fields;
     }
 
-    private CalendarEvent parseEventLine(String[] parts, int lineNumber) {
-        var participant = parts[0].trim();
-        if (participant.isEmpty()) {
+    private int parseTime(CsvRecordReader record, int index) {
+        var minute = parseMinuteOfDay(record, index);
+        if (minute < 0) {
             throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
-                    "Empty participant name at line %d".formatted(lineNumber));
+                    "Invalid time format '%s' at line %d".formatted(record.field(index), record.lineNumber()));
         }
-        if (participant.length() > Constants.MAX_NAME_LENGTH) {
-            throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
-                    "Participant name too long at line %d (max %d characters)".formatted(lineNumber, Constants.MAX_NAME_LENGTH));
+        return minute;
+    }
+
+    private static int parseMinuteOfDay(CsvRecordReader record, int index) {
+        int length = record.fieldLength(index);
+        int colon = length - 3;
+        if (colon < 1 || colon > MAX_HOUR_DIGITS || record.charAt(index, colon) != ':') {
+            return -1;
         }
-        var subject = parts[1].trim();
-        if (subject.length() > MAX_SUBJECT_LENGTH) {
-            throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
-                    "Subject too long at line %d (max %d characters)".formatted(lineNumber, MAX_SUBJECT_LENGTH));
+        int hour = 0;
+        for (int i = 0; i < colon; i++) {
+            int digit = record.charAt(index, i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            hour = Math.min(hour * 10 + digit, 100);
+        }
+        int tens = record.charAt(index, colon + 1) - '0';
+        int ones = record.charAt(index, colon + 2) - '0';
+        if (tens < 0 || tens > 5 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        int minute = tens * 10 + ones;
+        if (hour == 24 && minute == 0) {
+            return 0;
         }
-        var start = parseTime(parts[2].trim(), lineNumber);
-        var end = parseTime(parts[3].trim(), lineNumber);
-        return new CalendarEvent(participant, subject, new TimeSlot(start, end));
+        return hour < 24 ? hour * 60 + minute : -1;
     }
 
-    private TimeSlot parseBlackoutLine(String[] parts, int lineNumber) {
-        var start = parseTime(parts[0].trim(), lineNumber);
-        var end = parseTime(parts[1].trim(), lineNumber);
-        return new TimeSlot(start, end);
+    private record ChunkResult(ScheduleCollector collector, SchedulerException error) {}
+
+    @FunctionalInterface
+    private interface RecordHandler {
+        void handle(CsvRecordReader record);
     }
 
-    private LocalTime parseTime(String timeStr, int lineNumber) {
-        try {
-            return LocalTime.parse(timeStr, TIME_FORMAT);
-        } catch (DateTimeParseException e) {
-            throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
-                    "Invalid time format '%s' at line %d".formatted(timeStr, lineNumber));
+    private final class ScheduleCollector implements RecordHandler {
+
+        private final Map<String, ScheduleAccumulator> accumulators = new HashMap<>();
+        private ScheduleAccumulator current;
+
+        @Override
+        public void handle(CsvRecordReader record) {
+            if (current == null || !record.fieldEquals(0, current.participantName())) {
+                current = accumulators.computeIfAbsent(parseParticipant(record), ScheduleAccumulator::new);
+            }
+            if (record.fieldLength(1) > MAX_SUBJECT_LENGTH) {
+                throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
+                        "Subject too long at line %d (max %d characters)".formatted(record.lineNumber(), MAX_SUBJECT_LENGTH));
+            }
+            var start = parseTime(record, 2);
+            var end = parseTime(record, 3);
+            if (end <= start) {
+                throw new SchedulerException(SchedulerException.ErrorType.INVALID_TIME_RANGE,
+                        "End time %s must be after start time %s".formatted(TimeSlot.toLocalTime(end), TimeSlot.toLocalTime(start)));
+            }
+            current.add(start, end);
+        }
+
+        void merge(ScheduleCollector other) {
+            other.accumulators.forEach((name, accumulator) ->
+                    accumulators.computeIfAbsent(name, ScheduleAccumulator::new).addAll(accumulator));
+        }
+
+        int participantCount() {
+            return accumulators.size();
+        }
+
+        Map<String, Schedule> schedules() {
+            var schedules = new HashMap<String, Schedule>(accumulators.size() * 2);
+            accumulators.forEach((name, accumulator) -> schedules.put(name, accumulator.toSchedule()));
+            return schedules;
+        }
+
+        private String parseParticipant(CsvRecordReader record) {
+            if (record.fieldLength(0) == 0) {
+                throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
+                        "Empty participant name at line %d".formatted(record.lineNumber()));
+            }
+            if (record.fieldLength(0) > Constants.MAX_NAME_LENGTH) {
+                throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
+                        "Participant name too long at line %d (max %d characters)".formatted(record.lineNumber(), Constants.MAX_NAME_LENGTH));
+            }
+            return record.field(0);
         }
     }
 
-    @FunctionalInterface
-    private interface LineParser<T> {
-        T parse(String[] parts, int lineNumber);
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
     }
 }
@@ -0,0 +1,161 @@
+package io.slotify.core.parser;
+
+import io.slotify.core.exception.SchedulerException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+final class CsvRecordReader {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final char[] readBuffer = new char[READ_BUFFER_SIZE];
+    private final char[] line;
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private int readPosition;
+    private int readLimit;
+    private boolean pendingLineFeed;
+    private int lineNumber;
+    private int fieldCount;
+
+    CsvRecordReader(Reader reader, int maxLineLength, int linesBefore) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+        this.lineNumber = linesBefore;
+        this.line = new char[maxLineLength];
+        this.fieldStarts = new int[maxLineLength + 1];
+        this.fieldEnds = new int[maxLineLength + 1];
+    }
+
+    boolean next() throws IOException {
+        while (true) {
+            int length = readLine();
+            if (length < 0) {
+                return false;
+            }
+            int from = 0;
+            int to = length;
+            while (from < to && line[from] <= ' ') from++;
+            while (to > from && line[to - 1] <= ' ') to--;
+            if (from < to) {
+                tokenize(from, to);
+                return true;
+            }
+        }
+    }
+
+    int lineNumber() {
+        return lineNumber;
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    int fieldLength(int index) {
+        return fieldEnds[index] - fieldStarts[index];
+    }
+
+    char charAt(int index, int offset) {
+        return line[fieldStarts[index] + offset];
+    }
+
+    boolean fieldEquals(int index, String value) {
+        int length = fieldLength(index);
+        if (value.length() != length) {
+            return false;
+        }
+        int start = fieldStarts[index];
+        for (int i = 0; i < length; i++) {
+            if (line[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String field(int index) {
+        return new String(line, fieldStarts[index], fieldLength(index));
+    }
+
+    private int readLine() throws IOException {
+        int length = 0;
+        boolean sawAny = false;
+        while (true) {
+            if (readPosition == readLimit) {
+                readLimit = reader.read(readBuffer, 0, READ_BUFFER_SIZE);
+                readPosition = 0;
+                if (readLimit <= 0) {
+                    readLimit = 0;
+                    if (!sawAny) {
+                        return -1;
+                    }
+                    lineNumber++;
+                    return length;
+                }
+            }
+            char c = readBuffer[readPosition++];
+            if (pendingLineFeed) {
+                pendingLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            sawAny = true;
+            if (c == '\n' || c == '\r') {
+                pendingLineFeed = c == '\r';
+                lineNumber++;
+                return length;
+            }
+            if (length == maxLineLength) {
+                throw new SchedulerException(SchedulerException.ErrorType.PARSE_ERROR,
+                        "Line %d is too long (max %d characters)".formatted(lineNumber + 1, maxLineLength));
+            }
+            line[length++] = c;
+        }
+    }
+
+    private void tokenize(int from, int to) {
+        fieldCount = 0;
+        int write = from;
+        int fieldStart = from;
+        boolean inQuotes = false;
+        boolean fieldStarted = false;
+
+        for (int i = from; i < to; i++) {
+            char c = line[i];
+            if (c == '"') {
+                if (inQuotes && i + 1 < to && line[i + 1] == '"') {
+                    line[write++] = '"';
+                    i++;
+                } else if (inQuotes) {
+                    inQuotes = false;
+                } else if (!fieldStarted || write == fieldStart) {
+                    inQuotes = true;
+                    fieldStarted = true;
+                } else {
+                    line[write++] = c;
+                }
+            } else if (c == ',' && !inQuotes) {
+                addField(fieldStart, write);
+                fieldStart = write;
+                fieldStarted = false;
+            } else {
+                line[write++] = c;
+                fieldStarted = true;
+            }
+        }
+        addField(fieldStart, write);
+    }
+
+    private void addField(int start, int end) {
+        while (start < end && line[start] <= ' ') start++;
+        while (end > start && line[end - 1] <= ' ') end--;
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+}
@@ -0,0 +1,7 @@
+package io.slotify.core.parser;
+
+@FunctionalInterface
+public interface ParseProgressListener {
+
+    void progress(long bytesRead, int eventsRead, int participants);
+}
@@ -0,0 +1,65 @@
+package io.slotify.core.parser;
+
+import io.slotify.core.model.Schedule;
+
+import java.util.Arrays;
+
+final class ScheduleAccumulator {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String participantName;
+    private long[] ranges = new long[INITIAL_CAPACITY];
+    private int size;
+
+    ScheduleAccumulator(String participantName) {
+        this.participantName = participantName;
+    }
+
+    String participantName() {
+        return participantName;
+    }
+
+    void add(int startMinute, int endMinute) {
+        if (size == ranges.length) {
+            compact();
+            if (size > ranges.length * 3 / 4) {
+                ranges = Arrays.copyOf(ranges, ranges.length * 2);
+            }
+        }
+        ranges[size++] = ((long) startMinute << 32) | endMinute;
+    }
+
+    void addAll(ScheduleAccumulator other) {
+        for (int i = 0; i < other.size; i++) {
+            add((int) (other.ranges[i] >>> 32), (int) other.ranges[i]);
+        }
+    }
+
+    Schedule toSchedule() {
+        compact();
+        var busyMinutes = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            busyMinutes[i * 2] = (int) (ranges[i] >>> 32);
+            busyMinutes[i * 2 + 1] = (int) ranges[i];
+        }
+        return Schedule.ofMinutes(participantName, busyMinutes);
+    }
+
+    private void compact() {
+        Arrays.sort(ranges, 0, size);
+        int merged = 0;
+        for (int i = 0; i < size; i++) {
+            int start = (int) (ranges[i] >>> 32);
+            int end = (int) ranges[i];
+            if (merged > 0 && start <= (int) ranges[merged - 1]) {
+                int previousStart = (int) (ranges[merged - 1] >>> 32);
+                int previousEnd = Math.max((int) ranges[merged - 1], end);
+                ranges[merged - 1] = ((long) previousStart << 32) | previousEnd;
+            } else {
+                ranges[merged++] = ranges[i];
+            }
+        }
+        size = merged;
+    }
+}
@@ -0,0 +1,221 @@
+package io.slotify.core.repository;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.Schedule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class CachingScheduleRepository implements ScheduleRepository, ScheduleChangeListener {
+
+    private final ScheduleRepository delegate;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Schedule> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long generation;
+    private long cachedVersion;
+
+    public CachingScheduleRepository(ScheduleRepository delegate, int maxEntries) {
+        if (delegate == null) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "delegate cannot be null");
+        }
+        if (maxEntries < 1) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Cache size must be positive");
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void save(Schedule schedule) {
+        delegate.save(schedule);
+        scheduleChanged(schedule.participantName());
+    }
+
+    @Override
+    public void replaceAll(Map<String, Schedule> schedules) {
+        delegate.replaceAll(schedules);
+        allSchedulesChanged();
+    }
+
+    @Override
+    public Optional<Schedule> findByParticipant(String name) {
+        long observedGeneration;
+        synchronized (cache) {
+            var cached = cache.get(name);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return Optional.of(cached);
+            }
+            observedGeneration = generation;
+        }
+        misses.incrementAndGet();
+        var loaded = delegate.findByParticipant(name);
+        loaded.ifPresent(schedule -> store(Map.of(name, schedule), observedGeneration));
+        return loaded;
+    }
+
+    @Override
+    public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+        return findAll(names, delegate::findAllByParticipants);
+    }
+
+    @Override
+    public ScheduleSnapshot snapshot() {
+        var inner = delegate.snapshot();
+        synchronized (cache) {
+            if (inner.version() > cachedVersion) {
+                generation++;
+                cache.clear();
+                cachedVersion = inner.version();
+            }
+        }
+        return new CachedSnapshot(inner);
+    }
+
+    @Override
+    public long dataVersion() {
+        return delegate.dataVersion();
+    }
+
+    @Override
+    public Set<String> getAllParticipantNames() {
+        return delegate.getAllParticipantNames();
+    }
+
+    @Override
+    public int countParticipants() {
+        return delegate.countParticipants();
+    }
+
+    @Override
+    public List<String> findParticipantNamesByPrefix(String prefix, int limit) {
+        return delegate.findParticipantNamesByPrefix(prefix, limit);
+    }
+
+    @Override
+    public List<String> findParticipantNamesByPrefix(String prefix, String after, int limit) {
+        return delegate.findParticipantNamesByPrefix(prefix, after, limit);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        allSchedulesChanged();
+    }
+
+    @Override
+    public void scheduleChanged(String participantName) {
+        synchronized (cache) {
+            generation++;
+            cache.remove(participantName);
+        }
+    }
+
+    @Override
+    public void allSchedulesChanged() {
+        synchronized (cache) {
+            generation++;
+            cache.clear();
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), size);
+    }
+
+    private Map<String, Schedule> findAll(Collection<String> names, Function<List<String>, Map<String, Schedule>> loader) {
+        var result = new HashMap<String, Schedule>();
+        var missing = new ArrayList<String>();
+        long observedGeneration;
+        synchronized (cache) {
+            for (var name : names) {
+                var cached = cache.get(name);
+                if (cached != null) {
+                    result.put(name, cached);
+                } else {
+                    missing.add(name);
+                }
+            }
+            observedGeneration = generation;
+        }
+        hits.addAndGet(names.size() - missing.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+        misses.addAndGet(missing.size());
+        var loaded = loader.apply(missing);
+        store(loaded, observedGeneration);
+        result.putAll(loaded);
+        return result;
+    }
+
+    private void store(Map<String, Schedule> schedules, long observedGeneration) {
+        synchronized (cache) {
+            if (generation != observedGeneration) {
+                return;
+            }
+            cache.putAll(schedules);
+            var iterator = cache.keySet().iterator();
+            while (cache.size() > maxEntries) {
+                iterator.next();
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private final class CachedSnapshot implements ScheduleSnapshot {
+
+        private final ScheduleSnapshot inner;
+
+        private CachedSnapshot(ScheduleSnapshot inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public long version() {
+            return inner.version();
+        }
+
+        @Override
+        public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+            boolean current;
+            synchronized (cache) {
+                current = inner.version() == cachedVersion;
+            }
+            return current ? findAll(names, inner::findAllByParticipants) : inner.findAllByParticipants(names);
+        }
+
+        @Override
+        public Set<String> getAllParticipantNames() {
+            return inner.getAllParticipantNames();
+        }
+
+        @Override
+        public int countParticipants() {
+            return inner.countParticipants();
+        }
+
+        @Override
+        public List<String> findParticipantNamesByPrefix(String prefix, String after, int limit) {
+            return inner.findParticipantNamesByPrefix(prefix, after, limit);
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {}
+}
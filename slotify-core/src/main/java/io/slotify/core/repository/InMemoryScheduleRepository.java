@@ -2,32 +2,117 @@ package io.slotify.core.repository;
 
 import io.slotify.core.model.Schedule;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class InMemoryScheduleRepository implements ScheduleRepository {
 
-    private final Map<String, Schedule> data = new ConcurrentHashMap<>();
+    // Like a Redis generation: replaceAll swaps in a new sorted map, and save writes into the current one in O(log n),
+    // so a snapshot keeps reading its own generation while names stay in order for paging.
+    private final Object writeLock = new Object();
+    private volatile Snapshot current = new Snapshot(0, new ConcurrentSkipListMap<>(), 0);
 
     @Override
     public void save(Schedule schedule) {
-        data.put(schedule.participantName(), schedule);
+        synchronized (writeLock) {
+            var previous = current.schedules().put(schedule.participantName(), schedule);
+            current = new Snapshot(current.version() + 1, current.schedules(), current.count() + (previous == null ? 1 : 0));
+        }
+    }
+
+    @Override
+    public void replaceAll(Map<String, Schedule> schedules) {
+        var replacement = new ConcurrentSkipListMap<String, Schedule>();
+        schedules.values().forEach(schedule -> replacement.put(schedule.participantName(), schedule));
+        synchronized (writeLock) {
+            current = new Snapshot(current.version() + 1, replacement, replacement.size());
+        }
+    }
+
+    @Override
+    public ScheduleSnapshot snapshot() {
+        return current;
+    }
+
+    @Override
+    public long dataVersion() {
+        return current.version();
     }
 
     @Override
     public Optional<Schedule> findByParticipant(String name) {
-        return Optional.ofNullable(data.get(name));
+        return Optional.ofNullable(current.schedules().get(name));
+    }
+
+    @Override
+    public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+        return current.findAllByParticipants(names);
     }
 
     @Override
     public Set<String> getAllParticipantNames() {
-        return Set.copyOf(data.keySet());
+        return current.getAllParticipantNames();
+    }
+
+    @Override
+    public int countParticipants() {
+        return current.countParticipants();
+    }
+
+    @Override
+    public List<String> findParticipantNamesByPrefix(String prefix, int limit) {
+        return findParticipantNamesByPrefix(prefix, null, limit);
+    }
+
+    @Override
+    public List<String> findParticipantNamesByPrefix(String prefix, String after, int limit) {
+        return current.findParticipantNamesByPrefix(prefix, after, limit);
     }
 
     @Override
     public void clear() {
-        data.clear();
+        replaceAll(Map.of());
+    }
+
+    // The skip list's size() walks every entry, so the count is carried along with each version instead.
+    private record Snapshot(long version, ConcurrentSkipListMap<String, Schedule> schedules, int count) implements ScheduleSnapshot {
+
+        @Override
+        public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+            var result = new HashMap<String, Schedule>();
+            for (var name : names) {
+                var schedule = schedules.get(name);
+                if (schedule != null) {
+                    result.put(name, schedule);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Set<String> getAllParticipantNames() {
+            return Set.copyOf(schedules.keySet());
+        }
+
+        @Override
+        public int countParticipants() {
+            return count;
+        }
+
+        @Override
+        public List<String> findParticipantNamesByPrefix(String prefix, String after, int limit) {
+            var tail = after != null && after.compareTo(prefix) >= 0
+                    ? schedules.tailMap(after, false)
+                    : schedules.tailMap(prefix, true);
+            return tail.keySet().stream()
+                    .takeWhile(name -> name.startsWith(prefix))
+                    .limit(Math.max(limit, 0))
+                    .toList();
+        }
     }
 }
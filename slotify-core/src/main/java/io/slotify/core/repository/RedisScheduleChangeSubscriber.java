@@ -0,0 +1,75 @@
+package io.slotify.core.repository;
+
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+
+public class RedisScheduleChangeSubscriber implements AutoCloseable {
+
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final JedisPool jedisPool;
+    private final ScheduleChangeListener listener;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile JedisPubSub subscription;
+
+    public RedisScheduleChangeSubscriber(JedisPool jedisPool, ScheduleChangeListener listener) {
+        this.jedisPool = jedisPool;
+        this.listener = listener;
+        this.thread = new Thread(this::run, "schedule-change-subscriber");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        var current = subscription;
+        if (current != null && current.isSubscribed()) {
+            current.unsubscribe();
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            var pubSub = new ChangePubSub();
+            subscription = pubSub;
+            try (var jedis = jedisPool.getResource()) {
+                jedis.subscribe(pubSub, RedisScheduleRepository.CHANGES_CHANNEL);
+            } catch (JedisException e) {
+                if (!running) {
+                    return;
+                }
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private class ChangePubSub extends JedisPubSub {
+
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+            // Messages published while disconnected are lost, so start from an empty cache.
+            listener.allSchedulesChanged();
+        }
+
+        @Override
+        public void onMessage(String channel, String message) {
+            if (message.startsWith(RedisScheduleRepository.SAVED_MESSAGE_PREFIX)) {
+                listener.scheduleChanged(message.substring(RedisScheduleRepository.SAVED_MESSAGE_PREFIX.length()));
+            } else {
+                listener.allSchedulesChanged();
+            }
+        }
+    }
+}
@@ -1,86 +1,383 @@
 package io.slotify.core.repository;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.metrics.Histogram;
+import io.slotify.core.metrics.MetricsRegistry;
 import io.slotify.core.model.Schedule;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
 import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class RedisScheduleRepository implements ScheduleRepository {
 
-    private static final String KEY_PREFIX = "schedule:";
+    static final String CHANGES_CHANNEL = "schedule-changes";
+    static final String SAVED_MESSAGE_PREFIX = "saved:";
+    static final String CLEARED_MESSAGE = "cleared";
+
+    private static final String LEGACY_KEY_PREFIX = "schedule:";
+    private static final byte[] GENERATION_KEY = bytes("slotify:generation");
+    private static final byte[] GENERATION_SEQUENCE_KEY = bytes("slotify:generation:seq");
+    // Seeded from the server clock when absent, so the version never repeats after Redis loses its data.
+    private static final byte[] DATA_VERSION_KEY = bytes("slotify:data-version");
+    private static final byte[] MIGRATION_LOCK_KEY = bytes("slotify:migration-lock");
+    private static final byte[] SCHEDULES_PREFIX = bytes("slotify:schedules:");
+    private static final byte[] NAMES_PREFIX = bytes("slotify:names:");
+    private static final byte LEX_MAX = (byte) 0xff;
     private static final int MAX_SCAN_ITERATIONS = 10000;
+    private static final int BATCH_SIZE = 500;
+    private static final long STAGING_TTL_SECONDS = 3600;
+    private static final long RETIRED_GENERATION_TTL_SECONDS = 60;
+    private static final long MIGRATION_LOCK_MILLIS = 60_000;
+    private static final long MIGRATION_LOCK_RENEW_MILLIS = MIGRATION_LOCK_MILLIS / 3;
+    private static final long MIGRATION_POLL_MILLIS = 50;
+
+    // Scripts go by EVALSHA and are only sent in full when the server does not have them cached yet. They derive the
+    // slotify:schedules:<gen> and slotify:names:<gen> keys from the generation pointer at run time instead of declaring
+    // them in KEYS, so the repository needs a standalone Redis (or a single primary with replicas), not Redis Cluster.
+    private static final LuaScript READ_SCRIPT = new LuaScript("""
+            local generation = redis.call('GET', KEYS[1])
+            if not generation then return {} end
+            return redis.call('HMGET', ARGV[1] .. generation, unpack(ARGV, 2))
+            """);
+
+    private static final LuaScript INDEX_SCRIPT = new LuaScript("""
+            local generation = redis.call('GET', KEYS[1])
+            if not generation then return nil end
+            return redis.call(ARGV[2], ARGV[1] .. generation, unpack(ARGV, 3))
+            """);
+
+    private static final LuaScript SAVE_SCRIPT = new LuaScript("""
+            local generation = redis.call('GET', KEYS[1])
+            if not generation then
+              generation = tostring(redis.call('INCR', KEYS[2]))
+              redis.call('SET', KEYS[1], generation)
+            end
+            redis.call('HSET', ARGV[1] .. generation, ARGV[3], ARGV[4])
+            redis.call('ZADD', ARGV[2] .. generation, 0, ARGV[3])
+            local now = redis.call('TIME')
+            redis.call('SET', KEYS[3], now[1] .. string.format('%06d', now[2]), 'NX')
+            redis.call('INCR', KEYS[3])
+            redis.call('PUBLISH', ARGV[5], ARGV[6])
+            return generation
+            """);
+
+    private static final LuaScript SWAP_SCRIPT = new LuaScript("""
+            if #KEYS > 2 and (redis.call('GET', KEYS[3]) ~= ARGV[7] or redis.call('EXISTS', KEYS[1]) == 1) then
+              return 0
+            end
+            local previous = redis.call('GET', KEYS[1])
+            redis.call('SET', KEYS[1], ARGV[3])
+            redis.call('PERSIST', ARGV[1] .. ARGV[3])
+            redis.call('PERSIST', ARGV[2] .. ARGV[3])
+            if previous and previous ~= ARGV[3] then
+              redis.call('EXPIRE', ARGV[1] .. previous, ARGV[4])
+              redis.call('EXPIRE', ARGV[2] .. previous, ARGV[4])
+            end
+            local now = redis.call('TIME')
+            redis.call('SET', KEYS[2], now[1] .. string.format('%06d', now[2]), 'NX')
+            redis.call('INCR', KEYS[2])
+            redis.call('PUBLISH', ARGV[5], ARGV[6])
+            return 1
+            """);
+
+    private static final LuaScript RELEASE_LOCK_SCRIPT = new LuaScript("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """);
+
+    private static final LuaScript RENEW_LOCK_SCRIPT = new LuaScript("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """);
+
+    private static final LuaScript BACKFILL_INDEX_SCRIPT = new LuaScript("""
+            local generation = redis.call('GET', KEYS[1])
+            if not generation then return 0 end
+            local names = ARGV[2] .. generation
+            if redis.call('EXISTS', names) == 1 then return 0 end
+            local count = 0
+            for _, name in ipairs(redis.call('HKEYS', ARGV[1] .. generation)) do
+              redis.call('ZADD', names, 0, name)
+              count = count + 1
+            end
+            return count
+            """);
 
     private final JedisPool jedisPool;
-    private final ObjectMapper objectMapper;
+    private final ScheduleCodec codec = new ScheduleCodec();
+    private final boolean concurrentBatches;
+    private final Histogram operationSeconds;
+    private volatile boolean migrated;
 
-    public RedisScheduleRepository(JedisPool jedisPool) {
+    public RedisScheduleRepository(JedisPool jedisPool, boolean concurrentBatches, MetricsRegistry metrics) {
         this.jedisPool = jedisPool;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.concurrentBatches = concurrentBatches;
+        this.operationSeconds = (metrics != null ? metrics : new MetricsRegistry())
+                .histogram("slotify_redis_operation_seconds", "Redis round-trip latency by repository operation", "operation");
+    }
+
+    public RedisScheduleRepository(JedisPool jedisPool, boolean concurrentBatches) {
+        this(jedisPool, concurrentBatches, null);
+    }
+
+    public RedisScheduleRepository(JedisPool jedisPool) {
+        this(jedisPool, false);
     }
 
     @Override
     public void save(Schedule schedule) {
         try (var jedis = jedisPool.getResource()) {
-            var key = KEY_PREFIX + schedule.participantName();
-            var json = objectMapper.writeValueAsString(schedule);
-            jedis.set(key, json);
-        } catch (JsonProcessingException e) {
-            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR,
-                    "Failed to serialize schedule for " + schedule.participantName(), e);
+            ensureMigrated(jedis);
+            var name = schedule.participantName();
+            var encoded = codec.encode(schedule);
+            timed("save", () -> eval(jedis, SAVE_SCRIPT, List.of(GENERATION_KEY, GENERATION_SEQUENCE_KEY, DATA_VERSION_KEY), List.of(
+                    SCHEDULES_PREFIX, NAMES_PREFIX, bytes(name), encoded,
+                    bytes(CHANGES_CHANNEL), bytes(SAVED_MESSAGE_PREFIX + name))));
+        }
+    }
+
+    @Override
+    public void replaceAll(Map<String, Schedule> schedules) {
+        try (var jedis = jedisPool.getResource()) {
+            ensureMigrated(jedis);
+            swapIn(jedis, schedules.values(), null);
+        }
+    }
+
+    @Override
+    public ScheduleSnapshot snapshot() {
+        try (var jedis = jedisPool.getResource()) {
+            ensureMigrated(jedis);
+            var pointers = timed("snapshot", () -> jedis.mget(GENERATION_KEY, DATA_VERSION_KEY));
+            return new GenerationSnapshot(parseLong(pointers.get(0)), parseLong(pointers.get(1)));
+        }
+    }
+
+    @Override
+    public long dataVersion() {
+        try (var jedis = jedisPool.getResource()) {
+            ensureMigrated(jedis);
+            return parseLong(timed("version", () -> jedis.get(DATA_VERSION_KEY)));
         }
     }
 
     @Override
     public Optional<Schedule> findByParticipant(String name) {
+        return Optional.ofNullable(findAllByParticipants(List.of(name)).get(name));
+    }
+
+    @Override
+    public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+        var result = new HashMap<String, Schedule>();
+        if (names.isEmpty()) {
+            return result;
+        }
+        var distinctNames = List.copyOf(new HashSet<>(names));
         try (var jedis = jedisPool.getResource()) {
-            var json = jedis.get(KEY_PREFIX + name);
-            if (json == null) {
-                return Optional.empty();
+            ensureMigrated(jedis);
+            for (int from = 0; from < distinctNames.size(); from += BATCH_SIZE) {
+                var batch = distinctNames.subList(from, Math.min(from + BATCH_SIZE, distinctNames.size()));
+                var args = new ArrayList<byte[]>(batch.size() + 1);
+                args.add(SCHEDULES_PREFIX);
+                batch.forEach(name -> args.add(bytes(name)));
+                var values = (List<?>) timed("read", () -> eval(jedis, READ_SCRIPT, List.of(GENERATION_KEY), args));
+                for (int i = 0; i < values.size(); i++) {
+                    if (values.get(i) instanceof byte[] value) {
+                        result.put(batch.get(i), codec.decode(batch.get(i), value));
+                    }
+                }
             }
-            return Optional.of(objectMapper.readValue(json, Schedule.class));
-        } catch (JsonProcessingException e) {
-            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR,
-                    "Failed to deserialize schedule for " + name, e);
         }
+        return result;
     }
 
     @Override
     public Set<String> getAllParticipantNames() {
+        return new LinkedHashSet<>(queryIndex("ZRANGE", bytes("0"), bytes("-1")));
+    }
+
+    @Override
+    public int countParticipants() {
         try (var jedis = jedisPool.getResource()) {
-            var names = new HashSet<String>();
-            scanKeys(jedis, keys -> {
-                for (String key : keys) {
-                    names.add(key.substring(KEY_PREFIX.length()));
-                }
-            });
-            return names;
+            ensureMigrated(jedis);
+            var count = timed("index", () -> eval(jedis, INDEX_SCRIPT, List.of(GENERATION_KEY), List.of(NAMES_PREFIX, bytes("ZCARD"))));
+            return count instanceof Long value ? value.intValue() : 0;
+        }
+    }
+
+    @Override
+    public List<String> findParticipantNamesByPrefix(String prefix, int limit) {
+        return findParticipantNamesByPrefix(prefix, null, limit);
+    }
+
+    @Override
+    public List<String> findParticipantNamesByPrefix(String prefix, String after, int limit) {
+        if (limit <= 0) {
+            return List.of();
         }
+        return queryIndex("ZRANGEBYLEX", lexMin(prefix, after), lexMax(prefix), bytes("LIMIT"), bytes("0"), bytes(Integer.toString(limit)));
     }
 
     @Override
     public void clear() {
+        replaceAll(Map.of());
+    }
+
+    private List<String> queryIndex(String command, byte[]... args) {
         try (var jedis = jedisPool.getResource()) {
-            scanKeys(jedis, keys -> {
-                if (!keys.isEmpty()) {
-                    jedis.del(keys.toArray(new String[0]));
+            ensureMigrated(jedis);
+            var scriptArgs = new ArrayList<byte[]>(args.length + 2);
+            scriptArgs.add(NAMES_PREFIX);
+            scriptArgs.add(bytes(command));
+            scriptArgs.addAll(List.of(args));
+            var result = timed("index", () -> eval(jedis, INDEX_SCRIPT, List.of(GENERATION_KEY), scriptArgs));
+            if (!(result instanceof List<?> values)) {
+                return List.of();
+            }
+            var names = new ArrayList<String>(values.size());
+            for (var value : values) {
+                names.add(new String((byte[]) value, StandardCharsets.UTF_8));
+            }
+            return names;
+        }
+    }
+
+    private boolean swapIn(Jedis jedis, Collection<Schedule> schedules, MigrationLock lock) {
+        var generation = bytes(Long.toString(timed("generation", () -> jedis.incr(GENERATION_SEQUENCE_KEY))));
+        var stagingKey = concat(SCHEDULES_PREFIX, generation);
+        var stagingNamesKey = concat(NAMES_PREFIX, generation);
+        try (var pipeline = jedis.pipelined()) {
+            var batch = new HashMap<byte[], byte[]>();
+            var names = new HashMap<byte[], Double>();
+            for (var schedule : schedules) {
+                var name = bytes(schedule.participantName());
+                batch.put(name, codec.encode(schedule));
+                names.put(name, 0.0);
+                if (batch.size() == BATCH_SIZE) {
+                    pipeline.hset(stagingKey, batch);
+                    pipeline.zadd(stagingNamesKey, names);
+                    batch = new HashMap<>();
+                    names = new HashMap<>();
                 }
+            }
+            if (!batch.isEmpty()) {
+                pipeline.hset(stagingKey, batch);
+                pipeline.zadd(stagingNamesKey, names);
+            }
+            pipeline.expire(stagingKey, STAGING_TTL_SECONDS);
+            pipeline.expire(stagingNamesKey, STAGING_TTL_SECONDS);
+            timed("stage", () -> {
+                pipeline.sync();
+                return null;
             });
         }
+        var keys = new ArrayList<>(List.of(GENERATION_KEY, DATA_VERSION_KEY));
+        var args = new ArrayList<>(List.of(SCHEDULES_PREFIX, NAMES_PREFIX, generation, bytes(Long.toString(RETIRED_GENERATION_TTL_SECONDS)),
+                bytes(CHANGES_CHANNEL), bytes(CLEARED_MESSAGE)));
+        if (lock != null) {
+            keys.add(MIGRATION_LOCK_KEY);
+            args.add(lock.token);
+        }
+        var swapped = Long.valueOf(1).equals(timed("swap", () -> eval(jedis, SWAP_SCRIPT, keys, args)));
+        if (!swapped) {
+            jedis.unlink(stagingKey, stagingNamesKey);
+        }
+        return swapped;
+    }
+
+    private void ensureMigrated(Jedis jedis) {
+        if (migrated) {
+            return;
+        }
+        // Replicas race to migrate at startup. Only the lock holder reads and unlinks legacy keys. It renews the lock while
+        // it reads, and the swap itself checks that the lock is still held and no generation exists yet, so a replica whose
+        // lock expired mid-migration backs off instead of swapping a partial copy over another replica's complete one.
+        while (!jedis.exists(GENERATION_KEY)) {
+            var lock = new MigrationLock(bytes(UUID.randomUUID().toString()));
+            if (jedis.set(MIGRATION_LOCK_KEY, lock.token, SetParams.setParams().nx().px(MIGRATION_LOCK_MILLIS)) == null) {
+                awaitMigration();
+                continue;
+            }
+            try {
+                if (!jedis.exists(GENERATION_KEY)) {
+                    migrateLegacyKeys(jedis, lock);
+                }
+            } finally {
+                eval(jedis, RELEASE_LOCK_SCRIPT, List.of(MIGRATION_LOCK_KEY), List.of(lock.token));
+            }
+        }
+        eval(jedis, BACKFILL_INDEX_SCRIPT, List.of(GENERATION_KEY), List.of(SCHEDULES_PREFIX, NAMES_PREFIX));
+        migrated = true;
+    }
+
+    private static void awaitMigration() {
+        try {
+            Thread.sleep(MIGRATION_POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR, "Interrupted while waiting for schedule migration", e);
+        }
     }
 
-    private void scanKeys(Jedis jedis, Consumer<List<String>> keyProcessor) {
-        var scanParams = new ScanParams().match(KEY_PREFIX + "*").count(100);
+    private void migrateLegacyKeys(Jedis jedis, MigrationLock lock) {
+        var legacyKeys = new ArrayList<String>();
+        scanLegacyKeys(jedis, keys -> {
+            legacyKeys.addAll(keys);
+            lock.renewIfDue(jedis);
+        });
+
+        var schedules = new ArrayList<Schedule>();
+        for (int from = 0; from < legacyKeys.size(); from += BATCH_SIZE) {
+            if (!lock.renewIfDue(jedis)) {
+                return;
+            }
+            var batch = legacyKeys.subList(from, Math.min(from + BATCH_SIZE, legacyKeys.size()));
+            var values = jedis.mget(batch.stream().map(RedisScheduleRepository::bytes).toArray(byte[][]::new));
+            for (int i = 0; i < batch.size(); i++) {
+                if (values.get(i) != null) {
+                    var name = batch.get(i).substring(LEGACY_KEY_PREFIX.length());
+                    schedules.add(codec.decode(name, values.get(i)));
+                }
+            }
+        }
+        if (!swapIn(jedis, schedules, lock)) {
+            return;
+        }
+
+        for (int from = 0; from < legacyKeys.size(); from += BATCH_SIZE) {
+            jedis.unlink(legacyKeys.subList(from, Math.min(from + BATCH_SIZE, legacyKeys.size())).toArray(new String[0]));
+        }
+    }
+
+    private void scanLegacyKeys(Jedis jedis, Consumer<List<String>> keyProcessor) {
+        var scanParams = new ScanParams().match(LEGACY_KEY_PREFIX + "*").count(100);
         String cursor = "0";
         int iterations = 0;
         do {
@@ -93,4 +390,195 @@ public class RedisScheduleRepository implements ScheduleRepository {
             cursor = result.getCursor();
         } while (!cursor.equals("0"));
     }
+
+    private static Object eval(Jedis jedis, LuaScript script, List<byte[]> keys, List<byte[]> args) {
+        try {
+            return jedis.evalsha(script.sha, keys, args);
+        } catch (JedisNoScriptException e) {
+            return jedis.eval(script.body, keys, args);
+        }
+    }
+
+    private <T> T timed(String operation, Supplier<T> call) {
+        var start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            operationSeconds.labels(operation).observeNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static <T> T join(Future<T> future, ExecutorService executor) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR, "Interrupted while reading schedules", e);
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR, "Failed to read schedules", e.getCause());
+        }
+    }
+
+    private static byte[] lexMin(String prefix, String after) {
+        return after != null && after.compareTo(prefix) >= 0
+                ? concat(bytes("("), bytes(after))
+                : concat(bytes("["), bytes(prefix));
+    }
+
+    private static byte[] lexMax(String prefix) {
+        return concat(concat(bytes("["), bytes(prefix)), new byte[]{LEX_MAX});
+    }
+
+    private static long parseLong(byte[] value) {
+        return value != null ? Long.parseLong(new String(value, StandardCharsets.UTF_8)) : 0;
+    }
+
+    private static byte[] concat(byte[] prefix, byte[] suffix) {
+        var result = new byte[prefix.length + suffix.length];
+        System.arraycopy(prefix, 0, result, 0, prefix.length);
+        System.arraycopy(suffix, 0, result, prefix.length, suffix.length);
+        return result;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class LuaScript {
+
+        private final byte[] body;
+        private final byte[] sha;
+
+        private LuaScript(String body) {
+            this.body = bytes(body);
+            try {
+                this.sha = bytes(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(this.body)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR, "SHA-1 is not available", e);
+            }
+        }
+    }
+
+    private static final class MigrationLock {
+
+        private final byte[] token;
+        private long renewedAt = System.nanoTime();
+        private boolean held = true;
+
+        private MigrationLock(byte[] token) {
+            this.token = token;
+        }
+
+        private boolean renewIfDue(Jedis jedis) {
+            if (held && System.nanoTime() - renewedAt >= MIGRATION_LOCK_RENEW_MILLIS * 1_000_000) {
+                held = Long.valueOf(1).equals(eval(jedis, RENEW_LOCK_SCRIPT, List.of(MIGRATION_LOCK_KEY),
+                        List.of(token, bytes(Long.toString(MIGRATION_LOCK_MILLIS)))));
+                renewedAt = System.nanoTime();
+            }
+            return held;
+        }
+    }
+
+    private final class GenerationSnapshot implements ScheduleSnapshot {
+
+        private final long generation;
+        private final long dataVersion;
+        private final byte[] schedulesKey;
+        private final byte[] namesKey;
+
+        private GenerationSnapshot(long generation, long dataVersion) {
+            this.generation = generation;
+            this.dataVersion = dataVersion;
+            this.schedulesKey = concat(SCHEDULES_PREFIX, bytes(Long.toString(generation)));
+            this.namesKey = concat(NAMES_PREFIX, bytes(Long.toString(generation)));
+        }
+
+        @Override
+        public long version() {
+            return dataVersion;
+        }
+
+        @Override
+        public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+            var result = new HashMap<String, Schedule>();
+            if (names.isEmpty() || generation == 0) {
+                return result;
+            }
+            var distinctNames = List.copyOf(new HashSet<>(names));
+            var batches = new ArrayList<List<String>>();
+            for (int from = 0; from < distinctNames.size(); from += BATCH_SIZE) {
+                batches.add(distinctNames.subList(from, Math.min(from + BATCH_SIZE, distinctNames.size())));
+            }
+            if (!concurrentBatches || batches.size() == 1) {
+                batches.forEach(batch -> fetchBatch(batch, result));
+                return result;
+            }
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                var futures = batches.stream()
+                        .map(batch -> executor.submit(() -> fetchBatch(batch, new HashMap<>())))
+                        .toList();
+                for (var future : futures) {
+                    result.putAll(join(future, executor));
+                }
+            }
+            return result;
+        }
+
+        private Map<String, Schedule> fetchBatch(List<String> batch, Map<String, Schedule> result) {
+            try (var jedis = jedisPool.getResource()) {
+                var fields = batch.stream().map(RedisScheduleRepository::bytes).toArray(byte[][]::new);
+                var values = timed("read", () -> jedis.hmget(schedulesKey, fields));
+                for (int i = 0; i < batch.size(); i++) {
+                    if (values.get(i) != null) {
+                        result.put(batch.get(i), codec.decode(batch.get(i), values.get(i)));
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Set<String> getAllParticipantNames() {
+            if (generation == 0) {
+                return Set.of();
+            }
+            try (var jedis = jedisPool.getResource()) {
+                var names = new LinkedHashSet<String>();
+                for (var name : timed("names", () -> jedis.zrange(namesKey, 0, -1))) {
+                    names.add(new String(name, StandardCharsets.UTF_8));
+                }
+                return names;
+            }
+        }
+
+        @Override
+        public int countParticipants() {
+            if (generation == 0) {
+                return 0;
+            }
+            try (var jedis = jedisPool.getResource()) {
+                return (int) (long) timed("index", () -> jedis.zcard(namesKey));
+            }
+        }
+
+        @Override
+        public List<String> findParticipantNamesByPrefix(String prefix, String after, int limit) {
+            if (generation == 0 || limit <= 0) {
+                return List.of();
+            }
+            try (var jedis = jedisPool.getResource()) {
+                var values = timed("index", () -> jedis.zrangeByLex(namesKey, lexMin(prefix, after), lexMax(prefix), 0, limit));
+                var names = new ArrayList<String>(values.size());
+                for (var value : values) {
+                    names.add(new String(value, StandardCharsets.UTF_8));
+                }
+                return names;
+            }
+        }
+    }
 }
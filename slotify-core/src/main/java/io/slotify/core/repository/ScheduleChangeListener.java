@@ -0,0 +1,8 @@
+package io.slotify.core.repository;
+
+public interface ScheduleChangeListener {
+
+    void scheduleChanged(String participantName);
+
+    void allSchedulesChanged();
+}
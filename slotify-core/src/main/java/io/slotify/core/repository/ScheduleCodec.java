@@ -0,0 +1,122 @@
+package io.slotify.core.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.Schedule;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public final class ScheduleCodec {
+
+    private static final byte MAGIC = (byte) 0xB5;
+    private static final byte VERSION = 1;
+    private static final byte JSON_OBJECT_START = '{';
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    public byte[] encode(Schedule schedule) {
+        var count = schedule.busySlotCount();
+        var buffer = new byte[2 + 5 + count * 4];
+        buffer[0] = MAGIC;
+        buffer[1] = VERSION;
+        var position = writeVarint(buffer, 2, count);
+
+        var previousEnd = 0;
+        for (int i = 0; i < count; i++) {
+            var start = schedule.busyStartMinute(i);
+            var end = schedule.busyEndMinute(i);
+            position = writeVarint(buffer, position, start - previousEnd);
+            position = writeVarint(buffer, position, end - start);
+            previousEnd = end;
+        }
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public Schedule decode(String participantName, byte[] bytes) {
+        if (bytes.length > 0 && bytes[0] == JSON_OBJECT_START) {
+            return decodeJson(participantName, bytes);
+        }
+        if (bytes.length < 3 || bytes[0] != MAGIC) {
+            throw corrupt(participantName, "unknown format");
+        }
+        if (bytes[1] != VERSION) {
+            throw corrupt(participantName, "unsupported version " + bytes[1]);
+        }
+
+        var reader = new Reader(participantName, bytes, 2);
+        var count = reader.readVarint();
+        if (count < 0 || count > bytes.length) {
+            throw corrupt(participantName, "invalid slot count " + count);
+        }
+        var minutes = new int[count * 2];
+        var previousEnd = 0;
+        for (int i = 0; i < count; i++) {
+            var start = previousEnd + reader.readVarint();
+            var end = start + reader.readVarint();
+            minutes[i * 2] = start;
+            minutes[i * 2 + 1] = end;
+            previousEnd = end;
+        }
+        if (reader.position != bytes.length) {
+            throw corrupt(participantName, "trailing bytes");
+        }
+        try {
+            return Schedule.ofMinutes(participantName, minutes);
+        } catch (SchedulerException e) {
+            throw corrupt(participantName, e.getMessage());
+        }
+    }
+
+    private Schedule decodeJson(String participantName, byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, Schedule.class);
+        } catch (IOException e) {
+            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR,
+                    "Failed to deserialize schedule for " + participantName, e);
+        }
+    }
+
+    private static int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static SchedulerException corrupt(String participantName, String reason) {
+        return new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR,
+                "Failed to decode schedule for %s: %s".formatted(participantName, reason));
+    }
+
+    private static final class Reader {
+
+        private final String participantName;
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(String participantName, byte[] bytes, int position) {
+            this.participantName = participantName;
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                if (position >= bytes.length) {
+                    throw corrupt(participantName, "truncated data");
+                }
+                var b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw corrupt(participantName, "malformed varint");
+        }
+    }
+}
@@ -2,6 +2,9 @@ package io.slotify.core.repository;
 
 import io.slotify.core.model.Schedule;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -9,9 +12,23 @@ public interface ScheduleRepository {
 
     void save(Schedule schedule);
 
+    void replaceAll(Map<String, Schedule> schedules);
+
+    ScheduleSnapshot snapshot();
+
+    long dataVersion();
+
     Optional<Schedule> findByParticipant(String name);
 
+    Map<String, Schedule> findAllByParticipants(Collection<String> names);
+
     Set<String> getAllParticipantNames();
 
+    int countParticipants();
+
+    List<String> findParticipantNamesByPrefix(String prefix, int limit);
+
+    List<String> findParticipantNamesByPrefix(String prefix, String after, int limit);
+
     void clear();
 }
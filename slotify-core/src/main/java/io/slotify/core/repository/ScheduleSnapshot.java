@@ -0,0 +1,29 @@
+package io.slotify.core.repository;
+
+import io.slotify.core.model.Schedule;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ScheduleSnapshot {
+
+    long version();
+
+    Map<String, Schedule> findAllByParticipants(Collection<String> names);
+
+    Set<String> getAllParticipantNames();
+
+    default int countParticipants() {
+        return getAllParticipantNames().size();
+    }
+
+    default List<String> findParticipantNamesByPrefix(String prefix, String after, int limit) {
+        return getAllParticipantNames().stream()
+                .filter(name -> name.startsWith(prefix) && (after == null || name.compareTo(after) > 0))
+                .sorted()
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package io.slotify.core.service;
+
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+
+import java.time.Duration;
+
+final class AvailabilityProfile {
+
+    private final int[] freeCounts = new int[TimeSlot.MINUTES_PER_DAY + 2];
+    private final int lead;
+    private final int tail;
+
+    // For a slot starting at minute s the checked window is [s - lead, s + tail), clamped to the day the same
+    // way TimeSlot.expandBy clamps it. A participant is free for s exactly when one of their free gaps
+    // contains that window, which is a contiguous range of starts per gap, so all participants fold into
+    // one difference array.
+    AvailabilityProfile(Schedule[] participants, Duration meetingDuration, Duration buffer) {
+        var bufferNanos = buffer != null ? buffer.toNanos() : 0;
+        this.lead = ceilMinutes(bufferNanos);
+        this.tail = ceilMinutes(meetingDuration.toNanos() + bufferNanos);
+
+        for (var schedule : participants) {
+            var gapStart = 0;
+            for (int i = 0; i < schedule.busySlotCount(); i++) {
+                addGap(gapStart, schedule.busyStartMinute(i));
+                gapStart = schedule.busyEndMinute(i);
+            }
+            addGap(gapStart, TimeSlot.MINUTES_PER_DAY);
+        }
+        for (int minute = 1; minute < freeCounts.length; minute++) {
+            freeCounts[minute] += freeCounts[minute - 1];
+        }
+    }
+
+    // The profile is indexed by whole minutes; a sub-minute buffer can shift a slot start off that grid
+    boolean covers(TimeSlot slot) {
+        return slot.start().equals(TimeSlot.toLocalTime(slot.startMinute()));
+    }
+
+    int freeAt(int startMinute) {
+        return freeCounts[startMinute];
+    }
+
+    private void addGap(int gapStart, int gapEnd) {
+        if (gapStart >= gapEnd) {
+            return;
+        }
+        var first = gapStart == 0 ? 0 : gapStart + lead;
+        var last = gapEnd == TimeSlot.MINUTES_PER_DAY ? TimeSlot.MINUTES_PER_DAY : gapEnd - tail;
+        if (first > last || first > TimeSlot.MINUTES_PER_DAY) {
+            return;
+        }
+        freeCounts[first]++;
+        freeCounts[last + 1]--;
+    }
+
+    private static int ceilMinutes(long nanos) {
+        var minute = Duration.ofMinutes(1).toNanos();
+        return (int) Math.min(TimeSlot.MINUTES_PER_DAY + 1, (nanos + minute - 1) / minute);
+    }
+}
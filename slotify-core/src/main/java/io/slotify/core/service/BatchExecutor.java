@@ -0,0 +1,73 @@
+package io.slotify.core.service;
+
+import io.slotify.core.exception.SchedulerException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fixed-size pool that evaluates the queries of a batch search for one service. Batches never touch the
+ * common ForkJoin pool, so they neither starve nor wait behind other parallel streams. Threads start on
+ * demand and exit once idle, so a service that never runs a batch costs no threads.
+ */
+final class BatchExecutor implements AutoCloseable {
+
+    private static final long IDLE_SECONDS = 30;
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+
+    BatchExecutor(int threads) {
+        this.executor = new ThreadPoolExecutor(threads, threads, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), BatchExecutor::newThread);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    BatchExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> task) {
+        var futures = new ArrayList<Future<? extends R>>(items.size());
+        try {
+            for (var item : items) {
+                futures.add(executor.submit(() -> task.apply(item)));
+            }
+            var results = new ArrayList<R>(items.size());
+            for (var future : futures) {
+                results.add(future.get());
+            }
+            return List.copyOf(results);
+        } catch (RejectedExecutionException e) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Scheduling service is closed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR, "Interrupted while evaluating queries", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR, "Failed to evaluate queries", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static Thread newThread(Runnable task) {
+        var thread = new Thread(task, "slotify-batch-" + THREAD_IDS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,295 @@
+package io.slotify.core.service;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.metrics.Histogram;
+import io.slotify.core.metrics.MetricsRegistry;
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.MeetingQueryResult;
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.ScheduleRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class BitsetSchedulingService extends ForwardingSchedulingService {
+
+    private static final int WORK_START = 7 * 60;
+    private static final int WORK_END = 19 * 60;
+    private static final DayBitmap NO_BUSY_TIME = new DayBitmap();
+
+    private final ScheduleRepository repository;
+    private final ScheduleBitmapIndex index;
+    private final DayBitmap blackoutBitmap;
+    private final int bufferMinutes;
+    private final DefaultSchedulingService fallback;
+    private final MetricsRegistry metrics;
+    private final Histogram.Child fetchSeconds;
+    private final Histogram.Child mergeSeconds;
+    private final Histogram.Child alignSeconds;
+    private final Histogram.Child optionalSeconds;
+    private final BatchExecutor batchExecutor = new BatchExecutor();
+
+    public BitsetSchedulingService(ScheduleRepository repository, List<TimeSlot> blackoutPeriods, Duration bufferBetweenMeetings, ScheduleBitmapIndex index, MetricsRegistry metrics) {
+        this(new DefaultSchedulingService(repository, blackoutPeriods, bufferBetweenMeetings, metrics), repository, blackoutPeriods, bufferBetweenMeetings, index, metrics);
+    }
+
+    private BitsetSchedulingService(DefaultSchedulingService fallback, ScheduleRepository repository, List<TimeSlot> blackoutPeriods,
+                                    Duration bufferBetweenMeetings, ScheduleBitmapIndex index, MetricsRegistry metrics) {
+        super(fallback);
+        this.fallback = fallback;
+        this.repository = repository;
+        this.index = index != null ? index : new ScheduleBitmapIndex();
+        this.metrics = metrics;
+
+        var blackouts = blackoutPeriods != null ? blackoutPeriods : List.<TimeSlot>of();
+        this.blackoutBitmap = blackouts.stream().allMatch(TimeSlot::isMinuteAligned) ? DayBitmap.of(blackouts) : null;
+        this.bufferMinutes = toWholeMinutes(bufferBetweenMeetings);
+
+        var phases = SchedulingMetrics.phaseSeconds(metrics);
+        this.fetchSeconds = phases.labels("bitset", "fetch");
+        this.mergeSeconds = phases.labels("bitset", "merge");
+        this.alignSeconds = phases.labels("bitset", "align");
+        this.optionalSeconds = phases.labels("bitset", "optional");
+    }
+
+    public BitsetSchedulingService(ScheduleRepository repository, List<TimeSlot> blackoutPeriods, Duration bufferBetweenMeetings, ScheduleBitmapIndex index) {
+        this(repository, blackoutPeriods, bufferBetweenMeetings, index, null);
+    }
+
+    public BitsetSchedulingService(ScheduleRepository repository, List<TimeSlot> blackoutPeriods, Duration bufferBetweenMeetings) {
+        this(repository, blackoutPeriods, bufferBetweenMeetings, null);
+    }
+
+    public BitsetSchedulingService(ScheduleRepository repository, List<TimeSlot> blackoutPeriods) {
+        this(repository, blackoutPeriods, null);
+    }
+
+    public BitsetSchedulingService(ScheduleRepository repository) {
+        this(repository, List.of(), null);
+    }
+
+    @Override
+    public List<TimeSlot> findAvailableSlots(List<String> participants, Duration meetingDuration) {
+        return findAvailableSlots(participants, List.of(), meetingDuration)
+                .stream()
+                .map(AvailableSlot::timeSlot)
+                .toList();
+    }
+
+    @Override
+    public List<AvailableSlot> findAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        DefaultSchedulingService.validateQuery(requiredParticipants, meetingDuration);
+        if (!supports(meetingDuration)) {
+            return fallback.findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration);
+        }
+
+        var schedules = fetchSchedules(requiredParticipants, optionalParticipants);
+        return findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration, schedules);
+    }
+
+    @Override
+    public Map<Duration, List<AvailableSlot>> findAvailableSlotsByDuration(List<String> requiredParticipants, List<String> optionalParticipants,
+                                                                           List<Duration> meetingDurations) {
+        DefaultSchedulingService.validateDurations(requiredParticipants, meetingDurations);
+        var schedules = fetchSchedules(requiredParticipants, optionalParticipants);
+        if (!meetingDurations.stream().allMatch(this::supports)) {
+            return fallback.findAvailableSlotsByDuration(requiredParticipants, optionalParticipants, meetingDurations, schedules);
+        }
+
+        var start = System.nanoTime();
+        var requiredBusy = collectBusyBitmap(requiredParticipants, schedules);
+        SchedulingMetrics.record(mergeSeconds, start);
+
+        var result = new LinkedHashMap<Duration, List<AvailableSlot>>();
+        for (var duration : meetingDurations) {
+            if (result.containsKey(duration)) {
+                continue;
+            }
+            start = System.nanoTime();
+            var baseSlots = generateAlignedSlots(requiredBusy, toWholeMinutes(duration));
+            start = SchedulingMetrics.record(alignSeconds, start);
+            result.put(duration, optionalAvailability(optionalParticipants, schedules).evaluateAll(baseSlots));
+            SchedulingMetrics.record(optionalSeconds, start);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public List<AvailableSlot> findBestSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration, int limit) {
+        DefaultSchedulingService.validateQuery(requiredParticipants, meetingDuration);
+        DefaultSchedulingService.validateLimit(limit);
+        if (!supports(meetingDuration)) {
+            return fallback.findBestSlots(requiredParticipants, optionalParticipants, meetingDuration, limit);
+        }
+        var schedules = fetchSchedules(requiredParticipants, optionalParticipants);
+        var baseSlots = candidateSlots(requiredParticipants, meetingDuration, schedules);
+
+        var start = System.nanoTime();
+        var slots = optionalAvailability(optionalParticipants, schedules).best(baseSlots, limit);
+        SchedulingMetrics.record(optionalSeconds, start);
+        return slots;
+    }
+
+    @Override
+    public Stream<AvailableSlot> streamAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        DefaultSchedulingService.validateQuery(requiredParticipants, meetingDuration);
+        if (!supports(meetingDuration)) {
+            return fallback.streamAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration);
+        }
+        var schedules = fetchSchedules(requiredParticipants, optionalParticipants);
+        var baseSlots = candidateSlots(requiredParticipants, meetingDuration, schedules);
+        return optionalAvailability(optionalParticipants, schedules).stream(baseSlots);
+    }
+
+    private Map<String, Schedule> fetchSchedules(List<String> requiredParticipants, List<String> optionalParticipants) {
+        var allParticipants = new ArrayList<String>(requiredParticipants);
+        allParticipants.addAll(optionalParticipants);
+        var start = System.nanoTime();
+        var schedules = repository.snapshot().findAllByParticipants(allParticipants);
+        SchedulingMetrics.record(fetchSeconds, start);
+        return schedules;
+    }
+
+    @Override
+    public List<MeetingQueryResult> findAvailableSlots(List<MeetingQuery> queries) {
+        var allParticipants = new LinkedHashSet<String>();
+        for (var query : queries) {
+            if (query.requiredParticipants() != null) {
+                allParticipants.addAll(query.requiredParticipants());
+            }
+            allParticipants.addAll(query.optionalParticipants());
+        }
+        var start = System.nanoTime();
+        var schedules = repository.snapshot().findAllByParticipants(allParticipants);
+        SchedulingMetrics.record(fetchSeconds, start);
+
+        return batchExecutor.map(queries, query -> evaluate(query, schedules));
+    }
+
+    @Override
+    public void close() {
+        batchExecutor.close();
+        super.close();
+    }
+
+    private MeetingQueryResult evaluate(MeetingQuery query, Map<String, Schedule> schedules) {
+        try {
+            DefaultSchedulingService.validateQuery(query.requiredParticipants(), query.meetingDuration());
+            var service = new BitsetSchedulingService(repository, query.blackoutPeriods(), query.bufferBetweenMeetings(), index, metrics);
+            return MeetingQueryResult.success(service.findAvailableSlots(
+                    query.requiredParticipants(), query.optionalParticipants(), query.meetingDuration(), schedules));
+        } catch (SchedulerException e) {
+            return MeetingQueryResult.failure(e);
+        }
+    }
+
+    private boolean supports(Duration meetingDuration) {
+        var durationMinutes = toWholeMinutes(meetingDuration);
+        return blackoutBitmap != null && bufferMinutes >= 0 && durationMinutes >= 0 && durationMinutes <= WORK_END - WORK_START;
+    }
+
+    private List<AvailableSlot> findAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration,
+                                                   Map<String, Schedule> schedules) {
+        if (!supports(meetingDuration)) {
+            return fallback.findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration, schedules);
+        }
+        var baseSlots = candidateSlots(requiredParticipants, meetingDuration, schedules);
+        var start = System.nanoTime();
+        var slots = optionalAvailability(optionalParticipants, schedules).evaluateAll(baseSlots);
+        SchedulingMetrics.record(optionalSeconds, start);
+        return slots;
+    }
+
+    private List<TimeSlot> candidateSlots(List<String> requiredParticipants, Duration meetingDuration, Map<String, Schedule> schedules) {
+        var start = System.nanoTime();
+        var requiredBusy = collectBusyBitmap(requiredParticipants, schedules);
+        start = SchedulingMetrics.record(mergeSeconds, start);
+        var baseSlots = generateAlignedSlots(requiredBusy, toWholeMinutes(meetingDuration));
+        SchedulingMetrics.record(alignSeconds, start);
+        return baseSlots;
+    }
+
+    private OptionalAvailability optionalAvailability(List<String> optionalNames, Map<String, Schedule> schedules) {
+        var optionalBitmaps = new DayBitmap[optionalNames.size()];
+        for (int i = 0; i < optionalBitmaps.length; i++) {
+            var schedule = schedules.get(optionalNames.get(i));
+            optionalBitmaps[i] = schedule != null ? index.busyBitmap(schedule) : NO_BUSY_TIME;
+        }
+        return new OptionalAvailability(optionalNames, new OptionalAvailability.Probe() {
+            private int from;
+            private int to;
+
+            @Override
+            public void moveTo(TimeSlot slot) {
+                from = Math.max(0, slot.startMinute() - bufferMinutes);
+                to = Math.min(DayBitmap.MINUTES, slot.endMinute() + bufferMinutes);
+            }
+
+            @Override
+            public boolean isBusy(int participant) {
+                return optionalBitmaps[participant].anySet(from, to);
+            }
+        });
+    }
+
+    private DayBitmap collectBusyBitmap(List<String> participants, Map<String, Schedule> schedules) {
+        var busy = new DayBitmap();
+
+        for (var name : participants) {
+            var schedule = schedules.get(name);
+            if (schedule == null) {
+                throw new SchedulerException(SchedulerException.ErrorType.PARTICIPANT_NOT_FOUND,
+                        "Participant not found: " + name);
+            }
+
+            busy.or(index.busyBitmap(schedule));
+        }
+
+        if (bufferMinutes > 0) {
+            busy = busy.dilate(bufferMinutes);
+        }
+        busy.or(blackoutBitmap);
+
+        return busy;
+    }
+
+    private List<TimeSlot> generateAlignedSlots(DayBitmap busy, int durationMinutes) {
+        var slots = new ArrayList<TimeSlot>();
+        var slotIncrement = durationMinutes <= 30 ? 30 : 60;
+
+        var gapStart = busy.nextClearBit(WORK_START);
+        while (gapStart < WORK_END) {
+            var gapEnd = Math.min(busy.nextSetBit(gapStart), WORK_END);
+
+            for (var slotStart = roundUpToSlot(gapStart, slotIncrement); slotStart + durationMinutes <= gapEnd; slotStart += slotIncrement) {
+                slots.add(TimeSlot.ofMinutes(slotStart, slotStart + durationMinutes));
+            }
+            gapStart = busy.nextClearBit(gapEnd);
+        }
+
+        return slots;
+    }
+
+    private int roundUpToSlot(int minute, int slotMinutes) {
+        var remainder = minute % slotMinutes;
+        return remainder == 0 ? minute : minute + slotMinutes - remainder;
+    }
+
+    private static int toWholeMinutes(Duration duration) {
+        if (duration == null) {
+            return 0;
+        }
+        if (duration.toSecondsPart() != 0 || duration.toNanosPart() != 0 || duration.toMinutes() >= DayBitmap.MINUTES) {
+            return -1;
+        }
+        return (int) duration.toMinutes();
+    }
+}
@@ -0,0 +1,155 @@
+package io.slotify.core.service;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.MeetingQueryResult;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.ScheduleRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public class CachingSchedulingService extends ForwardingSchedulingService {
+
+    private final ScheduleRepository repository;
+    private final SchedulingResultCache cache;
+    private final List<TimeSlot> blackoutPeriods;
+    private final Duration bufferBetweenMeetings;
+
+    public CachingSchedulingService(SchedulingService delegate, ScheduleRepository repository, SchedulingResultCache cache,
+                                    List<TimeSlot> blackoutPeriods, Duration bufferBetweenMeetings) {
+        super(delegate);
+        if (delegate == null || repository == null || cache == null) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "delegate, repository and cache cannot be null");
+        }
+        this.repository = repository;
+        this.cache = cache;
+        this.blackoutPeriods = blackoutPeriods != null ? List.copyOf(blackoutPeriods) : List.of();
+        this.bufferBetweenMeetings = bufferBetweenMeetings;
+    }
+
+    @Override
+    public List<TimeSlot> findAvailableSlots(List<String> participants, Duration meetingDuration) {
+        return findAvailableSlots(participants, List.of(), meetingDuration)
+                .stream()
+                .map(AvailableSlot::timeSlot)
+                .toList();
+    }
+
+    @Override
+    public List<AvailableSlot> findAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        if (requiredParticipants == null || optionalParticipants == null || meetingDuration == null) {
+            return delegate.findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration);
+        }
+        var query = SlotQuery.of(requiredParticipants, optionalParticipants, meetingDuration, bufferBetweenMeetings, blackoutPeriods);
+        var version = repository.dataVersion();
+
+        var cached = cache.get(query, version);
+        if (cached != null) {
+            return cached.inOptionalOrder(optionalParticipants);
+        }
+
+        var result = new SlotResult(optionalParticipants, delegate.findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration));
+        cache.put(query, version, result);
+        return result.slots();
+    }
+
+    @Override
+    public Map<Duration, List<AvailableSlot>> findAvailableSlotsByDuration(List<String> requiredParticipants, List<String> optionalParticipants,
+                                                                           List<Duration> meetingDurations) {
+        if (requiredParticipants == null || optionalParticipants == null || meetingDurations == null || meetingDurations.stream().anyMatch(Objects::isNull)) {
+            return delegate.findAvailableSlotsByDuration(requiredParticipants, optionalParticipants, meetingDurations);
+        }
+        var version = repository.dataVersion();
+        var result = new LinkedHashMap<Duration, List<AvailableSlot>>();
+        var misses = new ArrayList<Duration>();
+        for (var duration : meetingDurations) {
+            var cached = cache.get(SlotQuery.of(requiredParticipants, optionalParticipants, duration, bufferBetweenMeetings, blackoutPeriods), version);
+            result.put(duration, cached != null ? cached.inOptionalOrder(optionalParticipants) : null);
+            if (cached == null && !misses.contains(duration)) {
+                misses.add(duration);
+            }
+        }
+        if (misses.isEmpty()) {
+            return Collections.unmodifiableMap(result);
+        }
+
+        var computed = delegate.findAvailableSlotsByDuration(requiredParticipants, optionalParticipants, misses);
+        computed.forEach((duration, slots) -> {
+            var entry = new SlotResult(optionalParticipants, slots);
+            result.put(duration, entry.slots());
+            cache.put(SlotQuery.of(requiredParticipants, optionalParticipants, duration, bufferBetweenMeetings, blackoutPeriods), version, entry);
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public List<AvailableSlot> findBestSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration, int limit) {
+        var cached = cachedResult(requiredParticipants, optionalParticipants, meetingDuration);
+        if (cached == null) {
+            return delegate.findBestSlots(requiredParticipants, optionalParticipants, meetingDuration, limit);
+        }
+        DefaultSchedulingService.validateLimit(limit);
+        return OptionalAvailability.rank(cached.inOptionalOrder(optionalParticipants), limit);
+    }
+
+    @Override
+    public Stream<AvailableSlot> streamAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        var cached = cachedResult(requiredParticipants, optionalParticipants, meetingDuration);
+        if (cached == null) {
+            return delegate.streamAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration);
+        }
+        return cached.inOptionalOrder(optionalParticipants).stream();
+    }
+
+    private SlotResult cachedResult(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        if (requiredParticipants == null || optionalParticipants == null || meetingDuration == null) {
+            return null;
+        }
+        var query = SlotQuery.of(requiredParticipants, optionalParticipants, meetingDuration, bufferBetweenMeetings, blackoutPeriods);
+        return cache.get(query, repository.dataVersion());
+    }
+
+    @Override
+    public List<MeetingQueryResult> findAvailableSlots(List<MeetingQuery> queries) {
+        var version = repository.dataVersion();
+        var results = new MeetingQueryResult[queries.size()];
+        var keys = new SlotQuery[queries.size()];
+        var misses = new ArrayList<Integer>();
+        for (int i = 0; i < queries.size(); i++) {
+            var query = queries.get(i);
+            if (query.requiredParticipants() == null || query.meetingDuration() == null) {
+                misses.add(i);
+                continue;
+            }
+            keys[i] = SlotQuery.of(query.requiredParticipants(), query.optionalParticipants(), query.meetingDuration(),
+                    query.bufferBetweenMeetings(), query.blackoutPeriods());
+            var cached = cache.get(keys[i], version);
+            if (cached != null) {
+                results[i] = MeetingQueryResult.success(cached.inOptionalOrder(query.optionalParticipants()));
+            } else {
+                misses.add(i);
+            }
+        }
+        if (misses.isEmpty()) {
+            return List.of(results);
+        }
+
+        var computed = delegate.findAvailableSlots(misses.stream().map(queries::get).toList());
+        for (int j = 0; j < misses.size(); j++) {
+            int i = misses.get(j);
+            results[i] = computed.get(j);
+            if (keys[i] != null && results[i].isSuccess()) {
+                cache.put(keys[i], version, new SlotResult(queries.get(i).optionalParticipants(), results[i].slots()));
+            }
+        }
+        return List.of(results);
+    }
+}
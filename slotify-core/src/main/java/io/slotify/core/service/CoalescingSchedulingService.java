@@ -0,0 +1,48 @@
+package io.slotify.core.service;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.ScheduleRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+public class CoalescingSchedulingService extends ForwardingSchedulingService {
+
+    private final ScheduleRepository repository;
+    private final SchedulingRequestCoalescer coalescer;
+    private final List<TimeSlot> blackoutPeriods;
+    private final Duration bufferBetweenMeetings;
+
+    public CoalescingSchedulingService(SchedulingService delegate, ScheduleRepository repository, SchedulingRequestCoalescer coalescer,
+                                       List<TimeSlot> blackoutPeriods, Duration bufferBetweenMeetings) {
+        super(delegate);
+        if (delegate == null || repository == null || coalescer == null) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "delegate, repository and coalescer cannot be null");
+        }
+        this.repository = repository;
+        this.coalescer = coalescer;
+        this.blackoutPeriods = blackoutPeriods != null ? List.copyOf(blackoutPeriods) : List.of();
+        this.bufferBetweenMeetings = bufferBetweenMeetings;
+    }
+
+    @Override
+    public List<TimeSlot> findAvailableSlots(List<String> participants, Duration meetingDuration) {
+        return findAvailableSlots(participants, List.of(), meetingDuration)
+                .stream()
+                .map(AvailableSlot::timeSlot)
+                .toList();
+    }
+
+    @Override
+    public List<AvailableSlot> findAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        if (requiredParticipants == null || optionalParticipants == null || meetingDuration == null) {
+            return delegate.findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration);
+        }
+        var query = SlotQuery.of(requiredParticipants, optionalParticipants, meetingDuration, bufferBetweenMeetings, blackoutPeriods);
+        var result = coalescer.execute(query, repository.dataVersion(), () -> new SlotResult(optionalParticipants,
+                delegate.findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration)));
+        return result.inOptionalOrder(optionalParticipants);
+    }
+}
@@ -0,0 +1,124 @@
+package io.slotify.core.service;
+
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+
+import java.util.List;
+
+final class DayBitmap {
+
+    static final int MINUTES = TimeSlot.MINUTES_PER_DAY;
+    private static final int WORDS = (MINUTES + 63) >>> 6;
+
+    private final long[] words;
+
+    DayBitmap() {
+        this.words = new long[WORDS];
+    }
+
+    static DayBitmap of(Schedule schedule) {
+        var bitmap = new DayBitmap();
+        for (int i = 0; i < schedule.busySlotCount(); i++) {
+            bitmap.set(schedule.busyStartMinute(i), schedule.busyEndMinute(i));
+        }
+        return bitmap;
+    }
+
+    static DayBitmap of(List<TimeSlot> slots) {
+        var bitmap = new DayBitmap();
+        for (var slot : slots) {
+            bitmap.set(slot.startMinute(), slot.endMinute());
+        }
+        return bitmap;
+    }
+
+    void set(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int startWord = from >>> 6;
+        int endWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (startWord == endWord) {
+            words[startWord] |= firstMask & lastMask;
+            return;
+        }
+        words[startWord] |= firstMask;
+        for (int i = startWord + 1; i < endWord; i++) {
+            words[i] = -1L;
+        }
+        words[endWord] |= lastMask;
+    }
+
+    void or(DayBitmap other) {
+        for (int i = 0; i < WORDS; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    boolean anySet(int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        int startWord = from >>> 6;
+        int endWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (startWord == endWord) {
+            return (words[startWord] & firstMask & lastMask) != 0;
+        }
+        if ((words[startWord] & firstMask) != 0) {
+            return true;
+        }
+        for (int i = startWord + 1; i < endWord; i++) {
+            if (words[i] != 0) {
+                return true;
+            }
+        }
+        return (words[endWord] & lastMask) != 0;
+    }
+
+    int nextSetBit(int from) {
+        if (from >= MINUTES) {
+            return MINUTES;
+        }
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (word == 0) {
+            if (++index == WORDS) {
+                return MINUTES;
+            }
+            word = words[index];
+        }
+        return Math.min(index * 64 + Long.numberOfTrailingZeros(word), MINUTES);
+    }
+
+    int nextClearBit(int from) {
+        if (from >= MINUTES) {
+            return MINUTES;
+        }
+        int index = from >>> 6;
+        long word = ~words[index] & (-1L << from);
+        while (word == 0) {
+            if (++index == WORDS) {
+                return MINUTES;
+            }
+            word = ~words[index];
+        }
+        return Math.min(index * 64 + Long.numberOfTrailingZeros(word), MINUTES);
+    }
+
+    DayBitmap dilate(int minutes) {
+        var dilated = new DayBitmap();
+        int start = nextSetBit(0);
+        while (start < MINUTES) {
+            int end = nextClearBit(start);
+            dilated.set(Math.max(0, start - minutes), Math.min(MINUTES, end + minutes));
+            start = nextSetBit(end);
+        }
+        return dilated;
+    }
+}
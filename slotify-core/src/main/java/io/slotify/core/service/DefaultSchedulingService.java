@@ -1,7 +1,13 @@
 package io.slotify.core.service;
 
 import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.metrics.Histogram;
+import io.slotify.core.metrics.MetricsRegistry;
 import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.ConflictSlot;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.MeetingQueryResult;
+import io.slotify.core.model.QuorumSlot;
 import io.slotify.core.model.Schedule;
 import io.slotify.core.model.TimeSlot;
 import io.slotify.core.repository.ScheduleRepository;
@@ -9,8 +15,15 @@ import io.slotify.core.repository.ScheduleRepository;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class DefaultSchedulingService implements SchedulingService {
 
@@ -20,8 +33,17 @@ public class DefaultSchedulingService implements SchedulingService {
     private final ScheduleRepository repository;
     private final List<TimeSlot> blackoutPeriods;
     private final Duration bufferBetweenMeetings;
-
-    public DefaultSchedulingService(ScheduleRepository repository, List<TimeSlot> blackoutPeriods, Duration bufferBetweenMeetings) {
+    private final MetricsRegistry metrics;
+    private final Histogram.Child fetchSeconds;
+    private final Histogram.Child mergeSeconds;
+    private final Histogram.Child gapSeconds;
+    private final Histogram.Child alignSeconds;
+    private final Histogram.Child optionalSeconds;
+    private final Histogram.Child quorumSeconds;
+    private final Histogram.Child conflictSeconds;
+    private final BatchExecutor batchExecutor = new BatchExecutor();
+
+    public DefaultSchedulingService(ScheduleRepository repository, List<TimeSlot> blackoutPeriods, Duration bufferBetweenMeetings, MetricsRegistry metrics) {
         if (repository == null) {
             throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "repository cannot be null");
         }
@@ -31,6 +53,20 @@ public class DefaultSchedulingService implements SchedulingService {
         this.repository = repository;
         this.blackoutPeriods = blackoutPeriods != null ? List.copyOf(blackoutPeriods) : List.of();
         this.bufferBetweenMeetings = bufferBetweenMeetings;
+        this.metrics = metrics;
+
+        var phases = SchedulingMetrics.phaseSeconds(metrics);
+        this.fetchSeconds = phases.labels("interval", "fetch");
+        this.mergeSeconds = phases.labels("interval", "merge");
+        this.gapSeconds = phases.labels("interval", "gaps");
+        this.alignSeconds = phases.labels("interval", "align");
+        this.optionalSeconds = phases.labels("interval", "optional");
+        this.quorumSeconds = phases.labels("interval", "quorum");
+        this.conflictSeconds = phases.labels("interval", "conflicts");
+    }
+
+    public DefaultSchedulingService(ScheduleRepository repository, List<TimeSlot> blackoutPeriods, Duration bufferBetweenMeetings) {
+        this(repository, blackoutPeriods, bufferBetweenMeetings, null);
     }
 
     public DefaultSchedulingService(ScheduleRepository repository, List<TimeSlot> blackoutPeriods) {
@@ -51,33 +87,270 @@ public class DefaultSchedulingService implements SchedulingService {
 
     @Override
     public List<AvailableSlot> findAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        validateQuery(requiredParticipants, meetingDuration);
+        var schedules = fetchSchedules(requiredParticipants, optionalParticipants);
+        return findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration, schedules);
+    }
+
+    @Override
+    public Map<Duration, List<AvailableSlot>> findAvailableSlotsByDuration(List<String> requiredParticipants, List<String> optionalParticipants,
+                                                                           List<Duration> meetingDurations) {
+        validateDurations(requiredParticipants, meetingDurations);
+        var schedules = fetchSchedules(requiredParticipants, optionalParticipants);
+        return findAvailableSlotsByDuration(requiredParticipants, optionalParticipants, meetingDurations, schedules);
+    }
+
+    Map<Duration, List<AvailableSlot>> findAvailableSlotsByDuration(List<String> requiredParticipants, List<String> optionalParticipants,
+                                                                    List<Duration> meetingDurations, Map<String, Schedule> schedules) {
+        var start = System.nanoTime();
+        var requiredBusy = collectBusySlots(requiredParticipants, schedules);
+        start = SchedulingMetrics.record(mergeSeconds, start);
+        var freeGaps = findGaps(requiredBusy);
+        SchedulingMetrics.record(gapSeconds, start);
+
+        var result = new LinkedHashMap<Duration, List<AvailableSlot>>();
+        for (var duration : meetingDurations) {
+            if (result.containsKey(duration)) {
+                continue;
+            }
+            start = System.nanoTime();
+            var baseSlots = generateAlignedSlots(freeGaps, duration);
+            start = SchedulingMetrics.record(alignSeconds, start);
+            result.put(duration, optionalAvailability(optionalParticipants, schedules).evaluateAll(baseSlots));
+            SchedulingMetrics.record(optionalSeconds, start);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<String, Schedule> fetchSchedules(List<String> requiredParticipants, List<String> optionalParticipants) {
+        var allParticipants = new ArrayList<String>(requiredParticipants);
+        allParticipants.addAll(optionalParticipants);
+        var start = System.nanoTime();
+        var schedules = repository.snapshot().findAllByParticipants(allParticipants);
+        SchedulingMetrics.record(fetchSeconds, start);
+        return schedules;
+    }
+
+    @Override
+    public List<AvailableSlot> findBestSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration, int limit) {
+        validateQuery(requiredParticipants, meetingDuration);
+        validateLimit(limit);
+        var schedules = fetchSchedules(requiredParticipants, optionalParticipants);
+        var baseSlots = candidateSlots(requiredParticipants, meetingDuration, schedules);
+
+        var start = System.nanoTime();
+        var slots = optionalAvailability(optionalParticipants, schedules).best(baseSlots, limit);
+        SchedulingMetrics.record(optionalSeconds, start);
+        return slots;
+    }
+
+    @Override
+    public Stream<AvailableSlot> streamAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        validateQuery(requiredParticipants, meetingDuration);
+        var schedules = fetchSchedules(requiredParticipants, optionalParticipants);
+        var baseSlots = candidateSlots(requiredParticipants, meetingDuration, schedules);
+        return optionalAvailability(optionalParticipants, schedules).stream(baseSlots);
+    }
+
+    @Override
+    public List<QuorumSlot> findQuorumSlots(List<String> requiredParticipants, List<String> pool, int quorum, Duration meetingDuration) {
+        validateQuorumQuery(requiredParticipants, pool, quorum, meetingDuration);
+        var schedules = fetchSchedules(requiredParticipants, pool);
+        var baseSlots = candidateSlots(requiredParticipants, meetingDuration, schedules);
+
+        var start = System.nanoTime();
+        var poolSchedules = requireSchedules(pool, schedules);
+        var profile = new AvailabilityProfile(poolSchedules, meetingDuration, bufferBetweenMeetings);
+        var sweep = new BusySweep(poolSchedules);
+
+        var slots = new ArrayList<QuorumSlot>();
+        var available = new String[poolSchedules.length];
+        for (var slot : baseSlots) {
+            if (profile.covers(slot) && profile.freeAt(slot.startMinute()) < quorum) {
+                continue;
+            }
+            sweep.moveTo(slot);
+            int count = 0;
+            for (int i = 0; i < poolSchedules.length; i++) {
+                if (!sweep.isBusy(i)) {
+                    available[count++] = pool.get(i);
+                }
+            }
+            if (count >= quorum) {
+                slots.add(new QuorumSlot(slot, Arrays.asList(available).subList(0, count)));
+            }
+        }
+        SchedulingMetrics.record(quorumSeconds, start);
+        return slots;
+    }
+
+    @Override
+    public List<ConflictSlot> findLeastConflictSlots(List<String> requiredParticipants, Duration meetingDuration, int limit) {
+        validateQuery(requiredParticipants, meetingDuration);
+        validateLimit(limit);
+        var schedules = fetchSchedules(requiredParticipants, List.of());
+        var requiredSchedules = requireSchedules(requiredParticipants, schedules);
+        var baseSlots = candidateSlots(List.of(), meetingDuration, schedules);
+
+        var start = System.nanoTime();
+        var profile = new AvailabilityProfile(requiredSchedules, meetingDuration, bufferBetweenMeetings);
+        var sweep = new BusySweep(requiredSchedules);
+        var conflicts = new int[baseSlots.size()];
+        for (int i = 0; i < conflicts.length; i++) {
+            var slot = baseSlots.get(i);
+            conflicts[i] = profile.covers(slot)
+                    ? requiredSchedules.length - profile.freeAt(slot.startMinute())
+                    : countBusy(sweep, slot);
+        }
+        var chosen = IntStream.range(0, conflicts.length).boxed()
+                .sorted(Comparator.comparingInt(i -> conflicts[i]))
+                .limit(limit)
+                .sorted()
+                .toList();
+
+        var namingSweep = new BusySweep(requiredSchedules);
+        var busy = new String[requiredSchedules.length];
+        var slots = new ArrayList<ConflictSlot>(chosen.size());
+        for (int i : chosen) {
+            var slot = baseSlots.get(i);
+            namingSweep.moveTo(slot);
+            int count = 0;
+            for (int j = 0; j < requiredSchedules.length; j++) {
+                if (namingSweep.isBusy(j)) {
+                    busy[count++] = requiredParticipants.get(j);
+                }
+            }
+            slots.add(new ConflictSlot(slot, Arrays.asList(busy).subList(0, count)));
+        }
+        slots.sort(Comparator.comparingInt(slot -> slot.conflictingParticipants().size()));
+        SchedulingMetrics.record(conflictSeconds, start);
+        return slots;
+    }
+
+    private static Schedule[] requireSchedules(List<String> names, Map<String, Schedule> schedules) {
+        var result = new Schedule[names.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = schedules.get(names.get(i));
+            if (result[i] == null) {
+                throw new SchedulerException(SchedulerException.ErrorType.PARTICIPANT_NOT_FOUND,
+                        "Participant not found: " + names.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static int countBusy(BusySweep sweep, TimeSlot slot) {
+        sweep.moveTo(slot);
+        int count = 0;
+        for (int i = 0; i < sweep.schedules.length; i++) {
+            if (sweep.isBusy(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public List<MeetingQueryResult> findAvailableSlots(List<MeetingQuery> queries) {
+        var allParticipants = new LinkedHashSet<String>();
+        for (var query : queries) {
+            if (query.requiredParticipants() != null) {
+                allParticipants.addAll(query.requiredParticipants());
+            }
+            allParticipants.addAll(query.optionalParticipants());
+        }
+        var start = System.nanoTime();
+        var schedules = repository.snapshot().findAllByParticipants(allParticipants);
+        SchedulingMetrics.record(fetchSeconds, start);
+
+        return batchExecutor.map(queries, query -> evaluate(query, schedules));
+    }
+
+    @Override
+    public void close() {
+        batchExecutor.close();
+    }
+
+    private MeetingQueryResult evaluate(MeetingQuery query, Map<String, Schedule> schedules) {
+        try {
+            validateQuery(query.requiredParticipants(), query.meetingDuration());
+            var service = new DefaultSchedulingService(repository, query.blackoutPeriods(), query.bufferBetweenMeetings(), metrics);
+            return MeetingQueryResult.success(service.findAvailableSlots(
+                    query.requiredParticipants(), query.optionalParticipants(), query.meetingDuration(), schedules));
+        } catch (SchedulerException e) {
+            return MeetingQueryResult.failure(e);
+        }
+    }
+
+    static void validateQuery(List<String> requiredParticipants, Duration meetingDuration) {
         if (requiredParticipants == null || requiredParticipants.size() < 2) {
             throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "At least 2 required participants are needed for a meeting");
         }
         if (meetingDuration == null || meetingDuration.isZero() || meetingDuration.isNegative()) {
             throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Meeting duration must be positive");
         }
-        var requiredBusy = collectBusySlots(requiredParticipants);
-        var freeGaps = findGaps(requiredBusy);
-        var baseSlots = generateAlignedSlots(freeGaps, meetingDuration);
+    }
 
-        var optionalSchedules = optionalParticipants.stream()
-                .map(name -> repository.findByParticipant(name).orElse(new Schedule(name, List.of())))
-                .toList();
+    static void validateQuorumQuery(List<String> requiredParticipants, List<String> pool, int quorum, Duration meetingDuration) {
+        if (requiredParticipants == null || pool == null) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Participant lists cannot be null");
+        }
+        if (quorum < 1 || quorum > pool.size()) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT,
+                    "Quorum must be between 1 and the pool size (%d)".formatted(pool.size()));
+        }
+        if (requiredParticipants.size() + quorum < 2) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "At least 2 participants are needed for a meeting");
+        }
+        if (meetingDuration == null || meetingDuration.isZero() || meetingDuration.isNegative()) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Meeting duration must be positive");
+        }
+    }
 
-        return baseSlots.stream()
-                .map(slot -> buildAvailableSlot(slot, optionalSchedules))
-                .toList();
+    static void validateDurations(List<String> requiredParticipants, List<Duration> meetingDurations) {
+        if (meetingDurations == null || meetingDurations.isEmpty()) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "At least one meeting duration is required");
+        }
+        for (var duration : meetingDurations) {
+            validateQuery(requiredParticipants, duration);
+        }
+    }
+
+    static void validateLimit(int limit) {
+        if (limit < 1) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Limit must be positive");
+        }
+    }
+
+    List<AvailableSlot> findAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration,
+                                           Map<String, Schedule> schedules) {
+        var baseSlots = candidateSlots(requiredParticipants, meetingDuration, schedules);
+        var start = System.nanoTime();
+        var slots = optionalAvailability(optionalParticipants, schedules).evaluateAll(baseSlots);
+        SchedulingMetrics.record(optionalSeconds, start);
+        return slots;
+    }
+
+    private List<TimeSlot> candidateSlots(List<String> requiredParticipants, Duration meetingDuration, Map<String, Schedule> schedules) {
+        var start = System.nanoTime();
+        var requiredBusy = collectBusySlots(requiredParticipants, schedules);
+        start = SchedulingMetrics.record(mergeSeconds, start);
+        var freeGaps = findGaps(requiredBusy);
+        start = SchedulingMetrics.record(gapSeconds, start);
+        var baseSlots = generateAlignedSlots(freeGaps, meetingDuration);
+        SchedulingMetrics.record(alignSeconds, start);
+        return baseSlots;
     }
 
-    private List<TimeSlot> collectBusySlots(List<String> participants) {
+    private List<TimeSlot> collectBusySlots(List<String> participants, Map<String, Schedule> schedules) {
         var allBusySlots = new ArrayList<TimeSlot>();
 
         for (var name : participants) {
-            var schedule = repository.findByParticipant(name)
-                    .orElseThrow(() -> new SchedulerException(
-                            SchedulerException.ErrorType.PARTICIPANT_NOT_FOUND,
-                            "Participant not found: " + name));
+            var schedule = schedules.get(name);
+            if (schedule == null) {
+                throw new SchedulerException(SchedulerException.ErrorType.PARTICIPANT_NOT_FOUND,
+                        "Participant not found: " + name);
+            }
 
             schedule.busySlots().stream()
                     .map(this::applyBuffer)
@@ -150,15 +423,47 @@ public class DefaultSchedulingService implements SchedulingService {
         return time.plusMinutes(slotMinutes - remainder);
     }
 
-    private AvailableSlot buildAvailableSlot(TimeSlot slot, List<Schedule> optionalSchedules) {
-        var effectiveSlot = applyBuffer(slot);
+    private OptionalAvailability optionalAvailability(List<String> optionalNames, Map<String, Schedule> schedules) {
+        var optionalSchedules = new Schedule[optionalNames.size()];
+        for (int i = 0; i < optionalSchedules.length; i++) {
+            optionalSchedules[i] = schedules.get(optionalNames.get(i));
+        }
+        return new OptionalAvailability(optionalNames, new BusySweep(optionalSchedules));
+    }
+
+    // Candidate slots come out of generateAlignedSlots in start order, so each participant's busy
+    // intervals are walked once across all slots instead of being searched again per slot.
+    private final class BusySweep implements OptionalAvailability.Probe {
+
+        private final Schedule[] schedules;
+        private final int[] busyIndex;
+        private int from;
+        private int to;
 
-        var partitioned = optionalSchedules.stream()
-                .collect(Collectors.partitioningBy(
-                        schedule -> schedule.isBusyDuring(effectiveSlot),
-                        Collectors.mapping(Schedule::participantName, Collectors.toList())
-                ));
+        private BusySweep(Schedule[] schedules) {
+            this.schedules = schedules;
+            this.busyIndex = new int[schedules.length];
+        }
+
+        @Override
+        public void moveTo(TimeSlot slot) {
+            var effectiveSlot = applyBuffer(slot);
+            from = TimeSlot.toMinuteOfDay(effectiveSlot.start());
+            to = TimeSlot.ceilMinuteOfDay(effectiveSlot.end());
+        }
 
-        return new AvailableSlot(slot, partitioned.get(false), partitioned.get(true));
+        @Override
+        public boolean isBusy(int participant) {
+            var schedule = schedules[participant];
+            if (schedule == null) {
+                return false;
+            }
+            var index = busyIndex[participant];
+            while (index < schedule.busySlotCount() && schedule.busyEndMinute(index) <= from) {
+                index++;
+            }
+            busyIndex[participant] = index;
+            return index < schedule.busySlotCount() && schedule.busyStartMinute(index) < to;
+        }
     }
 }
@@ -0,0 +1,72 @@
+package io.slotify.core.service;
+
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.ConflictSlot;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.MeetingQueryResult;
+import io.slotify.core.model.QuorumSlot;
+import io.slotify.core.model.TimeSlot;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Base for scheduling services that wrap another one: every method forwards to the delegate,
+ * so a subclass overrides only the queries it changes.
+ */
+public abstract class ForwardingSchedulingService implements SchedulingService {
+
+    protected final SchedulingService delegate;
+
+    protected ForwardingSchedulingService(SchedulingService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<TimeSlot> findAvailableSlots(List<String> participants, Duration meetingDuration) {
+        return delegate.findAvailableSlots(participants, meetingDuration);
+    }
+
+    @Override
+    public List<AvailableSlot> findAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        return delegate.findAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration);
+    }
+
+    @Override
+    public Map<Duration, List<AvailableSlot>> findAvailableSlotsByDuration(List<String> requiredParticipants, List<String> optionalParticipants,
+                                                                           List<Duration> meetingDurations) {
+        return delegate.findAvailableSlotsByDuration(requiredParticipants, optionalParticipants, meetingDurations);
+    }
+
+    @Override
+    public List<AvailableSlot> findBestSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration, int limit) {
+        return delegate.findBestSlots(requiredParticipants, optionalParticipants, meetingDuration, limit);
+    }
+
+    @Override
+    public Stream<AvailableSlot> streamAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration) {
+        return delegate.streamAvailableSlots(requiredParticipants, optionalParticipants, meetingDuration);
+    }
+
+    @Override
+    public List<QuorumSlot> findQuorumSlots(List<String> requiredParticipants, List<String> pool, int quorum, Duration meetingDuration) {
+        return delegate.findQuorumSlots(requiredParticipants, pool, quorum, meetingDuration);
+    }
+
+    @Override
+    public List<ConflictSlot> findLeastConflictSlots(List<String> requiredParticipants, Duration meetingDuration, int limit) {
+        return delegate.findLeastConflictSlots(requiredParticipants, meetingDuration, limit);
+    }
+
+    @Override
+    public List<MeetingQueryResult> findAvailableSlots(List<MeetingQuery> queries) {
+        return delegate.findAvailableSlots(queries);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
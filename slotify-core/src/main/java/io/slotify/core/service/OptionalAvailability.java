@@ -0,0 +1,118 @@
+package io.slotify.core.service;
+
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.TimeSlot;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class OptionalAvailability {
+
+    static final Comparator<AvailableSlot> BEST_FIRST = Comparator
+            .comparingInt((AvailableSlot slot) -> slot.availableOptionalParticipants().size()).reversed()
+            .thenComparing(slot -> slot.timeSlot().start());
+
+    interface Probe {
+
+        void moveTo(TimeSlot slot);
+
+        boolean isBusy(int participant);
+    }
+
+    private final List<String> names;
+    private final Probe probe;
+    private final String[] available;
+    private final String[] unavailable;
+
+    OptionalAvailability(List<String> names, Probe probe) {
+        this.names = names;
+        this.probe = probe;
+        this.available = new String[names.size()];
+        this.unavailable = new String[names.size()];
+    }
+
+    AvailableSlot evaluate(TimeSlot slot) {
+        probe.moveTo(slot);
+        int availableCount = 0;
+        int unavailableCount = 0;
+        for (int i = 0; i < names.size(); i++) {
+            if (probe.isBusy(i)) {
+                unavailable[unavailableCount++] = names.get(i);
+            } else {
+                available[availableCount++] = names.get(i);
+            }
+        }
+        return new AvailableSlot(slot,
+                Arrays.asList(available).subList(0, availableCount),
+                Arrays.asList(unavailable).subList(0, unavailableCount));
+    }
+
+    List<AvailableSlot> evaluateAll(List<TimeSlot> slots) {
+        return slots.stream().map(this::evaluate).toList();
+    }
+
+    Stream<AvailableSlot> stream(List<TimeSlot> slots) {
+        // Probes may walk busy intervals forward only, so slots are evaluated one at a time in start order
+        // even when the caller asks for a parallel stream.
+        var candidates = slots.iterator();
+        var evaluated = new Iterator<AvailableSlot>() {
+            @Override
+            public boolean hasNext() {
+                return candidates.hasNext();
+            }
+
+            @Override
+            public AvailableSlot next() {
+                return evaluate(candidates.next());
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliterator(evaluated, slots.size(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    List<AvailableSlot> best(List<TimeSlot> slots, int limit) {
+        var participants = names.size();
+        var worstFirst = new PriorityQueue<AvailableSlot>(Math.max(1, Math.min(limit, slots.size())), BEST_FIRST.reversed());
+
+        for (var slot : slots) {
+            // Slots arrive in start order, so a later slot has to beat the current worst outright to get in.
+            var threshold = worstFirst.size() < limit ? -1 : worstFirst.peek().availableOptionalParticipants().size();
+            if (threshold == participants) {
+                break;
+            }
+
+            probe.moveTo(slot);
+            int availableCount = 0;
+            int unavailableCount = 0;
+            for (int i = 0; i < participants && availableCount + participants - i > threshold; i++) {
+                if (probe.isBusy(i)) {
+                    unavailable[unavailableCount++] = names.get(i);
+                } else {
+                    available[availableCount++] = names.get(i);
+                }
+            }
+            if (availableCount + unavailableCount < participants || availableCount <= threshold) {
+                continue;
+            }
+
+            if (worstFirst.size() == limit) {
+                worstFirst.poll();
+            }
+            worstFirst.add(new AvailableSlot(slot,
+                    Arrays.asList(available).subList(0, availableCount),
+                    Arrays.asList(unavailable).subList(0, unavailableCount)));
+        }
+
+        return worstFirst.stream().sorted(BEST_FIRST).toList();
+    }
+
+    static List<AvailableSlot> rank(List<AvailableSlot> slots, int limit) {
+        return slots.stream().sorted(BEST_FIRST).limit(limit).toList();
+    }
+}
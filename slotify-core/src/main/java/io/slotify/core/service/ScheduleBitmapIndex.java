@@ -0,0 +1,80 @@
+package io.slotify.core.service;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.Schedule;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ScheduleBitmapIndex {
+
+    private static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    // Keyed by schedule content, so a schedule decoded afresh from Redis still hits, and replaced schedules age out as least recently used.
+    private final LinkedHashMap<Schedule, DayBitmap> bitmaps = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ScheduleBitmapIndex(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Index size must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    public ScheduleBitmapIndex() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public void index(Collection<Schedule> schedules) {
+        for (var schedule : schedules) {
+            store(schedule, DayBitmap.of(schedule));
+        }
+    }
+
+    DayBitmap busyBitmap(Schedule schedule) {
+        DayBitmap bitmap;
+        synchronized (bitmaps) {
+            bitmap = bitmaps.get(schedule);
+        }
+        if (bitmap != null) {
+            hits.incrementAndGet();
+            return bitmap;
+        }
+        misses.incrementAndGet();
+        bitmap = DayBitmap.of(schedule);
+        store(schedule, bitmap);
+        return bitmap;
+    }
+
+    public void clear() {
+        synchronized (bitmaps) {
+            bitmaps.clear();
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (bitmaps) {
+            size = bitmaps.size();
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), size);
+    }
+
+    private void store(Schedule schedule, DayBitmap bitmap) {
+        synchronized (bitmaps) {
+            bitmaps.put(schedule, bitmap);
+            var iterator = bitmaps.keySet().iterator();
+            while (bitmaps.size() > maxEntries) {
+                iterator.next();
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {}
+}
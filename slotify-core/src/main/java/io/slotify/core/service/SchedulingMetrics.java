@@ -0,0 +1,21 @@
+package io.slotify.core.service;
+
+import io.slotify.core.metrics.Histogram;
+import io.slotify.core.metrics.MetricsRegistry;
+
+final class SchedulingMetrics {
+
+    private SchedulingMetrics() {
+    }
+
+    static Histogram phaseSeconds(MetricsRegistry metrics) {
+        return (metrics != null ? metrics : new MetricsRegistry())
+                .histogram("slotify_scheduling_phase_seconds", "Time spent in each phase of a slot search", "engine", "phase");
+    }
+
+    static long record(Histogram.Child phase, long start) {
+        var now = System.nanoTime();
+        phase.observeNanos(now - start);
+        return now;
+    }
+}
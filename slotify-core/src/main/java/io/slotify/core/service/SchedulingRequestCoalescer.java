@@ -0,0 +1,61 @@
+package io.slotify.core.service;
+
+import io.slotify.core.exception.SchedulerException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class SchedulingRequestCoalescer {
+
+    private final Map<Key, CompletableFuture<SlotResult>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong computations = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    SlotResult execute(SlotQuery query, long dataVersion, Supplier<SlotResult> computation) {
+        var key = new Key(query, dataVersion);
+        var future = new CompletableFuture<SlotResult>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+
+        computations.incrementAndGet();
+        try {
+            var result = computation.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(computations.get(), coalesced.get(), inFlight.size());
+    }
+
+    private static SlotResult await(CompletableFuture<SlotResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new SchedulerException(SchedulerException.ErrorType.REPOSITORY_ERROR, "Failed to find available slots", e.getCause());
+        }
+    }
+
+    private record Key(SlotQuery query, long dataVersion) {}
+
+    public record Stats(long computations, long coalesced, int inFlight) {}
+}
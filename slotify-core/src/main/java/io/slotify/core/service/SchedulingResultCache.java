@@ -0,0 +1,77 @@
+package io.slotify.core.service;
+
+import io.slotify.core.exception.SchedulerException;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SchedulingResultCache {
+
+    // Concurrent readers trail each other by at most a few writes. A version further behind than this means the
+    // counter was reset, not that the reader is slow, so the cache starts over from it instead of staying disabled.
+    private static final long MAX_READER_LAG = 1_000;
+
+    private final int maxEntries;
+    private final LinkedHashMap<SlotQuery, SlotResult> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long dataVersion;
+
+    public SchedulingResultCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new SchedulerException(SchedulerException.ErrorType.INVALID_ARGUMENT, "Cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    SlotResult get(SlotQuery query, long observedVersion) {
+        SlotResult entry;
+        synchronized (cache) {
+            // A reader that saw a slightly older version must not roll the cache back and drop entries computed for the newer one.
+            if (observedVersion > dataVersion || observedVersion < dataVersion - MAX_READER_LAG) {
+                cache.clear();
+                dataVersion = observedVersion;
+            }
+            entry = observedVersion == dataVersion ? cache.get(query) : null;
+        }
+        (entry != null ? hits : misses).incrementAndGet();
+        return entry;
+    }
+
+    void put(SlotQuery query, long observedVersion, SlotResult entry) {
+        synchronized (cache) {
+            if (observedVersion != dataVersion) {
+                return;
+            }
+            cache.put(query, entry);
+            var iterator = cache.keySet().iterator();
+            while (cache.size() > maxEntries) {
+                iterator.next();
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), size);
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {
+
+        public double hitRatio() {
+            var lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+}
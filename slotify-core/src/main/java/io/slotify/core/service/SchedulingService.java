@@ -1,14 +1,40 @@
 package io.slotify.core.service;
 
 import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.ConflictSlot;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.MeetingQueryResult;
+import io.slotify.core.model.QuorumSlot;
 import io.slotify.core.model.TimeSlot;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
-public interface SchedulingService {
+public interface SchedulingService extends AutoCloseable {
 
     List<TimeSlot> findAvailableSlots(List<String> participants, Duration meetingDuration);
 
     List<AvailableSlot> findAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration);
+
+    Map<Duration, List<AvailableSlot>> findAvailableSlotsByDuration(List<String> requiredParticipants, List<String> optionalParticipants,
+                                                                    List<Duration> meetingDurations);
+
+    List<AvailableSlot> findBestSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration, int limit);
+
+    Stream<AvailableSlot> streamAvailableSlots(List<String> requiredParticipants, List<String> optionalParticipants, Duration meetingDuration);
+
+    List<QuorumSlot> findQuorumSlots(List<String> requiredParticipants, List<String> pool, int quorum, Duration meetingDuration);
+
+    List<ConflictSlot> findLeastConflictSlots(List<String> requiredParticipants, Duration meetingDuration, int limit);
+
+    List<MeetingQueryResult> findAvailableSlots(List<MeetingQuery> queries);
+
+    /**
+     * Stops any threads the service started for batch searches.
+     */
+    @Override
+    default void close() {
+    }
 }
@@ -0,0 +1,21 @@
+package io.slotify.core.service;
+
+import io.slotify.core.model.TimeSlot;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+record SlotQuery(List<String> required, List<String> optional, Duration duration, Duration buffer, List<TimeSlot> blackouts) {
+
+    private static final Comparator<TimeSlot> BLACKOUT_ORDER = Comparator.comparing(TimeSlot::start).thenComparing(TimeSlot::end);
+
+    static SlotQuery of(List<String> required, List<String> optional, Duration duration, Duration buffer, List<TimeSlot> blackouts) {
+        return new SlotQuery(
+                required.stream().sorted().toList(),
+                optional.stream().sorted().toList(),
+                duration,
+                buffer != null ? buffer : Duration.ZERO,
+                blackouts != null ? blackouts.stream().sorted(BLACKOUT_ORDER).toList() : List.of());
+    }
+}
@@ -0,0 +1,31 @@
+package io.slotify.core.service;
+
+import io.slotify.core.model.AvailableSlot;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+record SlotResult(List<String> optionalOrder, List<AvailableSlot> slots) {
+
+    SlotResult {
+        optionalOrder = List.copyOf(optionalOrder);
+        slots = List.copyOf(slots);
+    }
+
+    List<AvailableSlot> inOptionalOrder(List<String> optionalParticipants) {
+        if (optionalOrder.equals(optionalParticipants)) {
+            return slots;
+        }
+        var positions = new HashMap<String, Integer>();
+        for (int i = 0; i < optionalParticipants.size(); i++) {
+            positions.put(optionalParticipants.get(i), i);
+        }
+        Comparator<String> order = Comparator.comparing(positions::get);
+        return slots.stream()
+                .map(slot -> new AvailableSlot(slot.timeSlot(),
+                        slot.availableOptionalParticipants().stream().sorted(order).toList(),
+                        slot.unavailableOptionalParticipants().stream().sorted(order).toList()))
+                .toList();
+    }
+}
@@ -0,0 +1,269 @@
+package io.slotify.core;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.InMemoryScheduleRepository;
+import io.slotify.core.repository.ScheduleSnapshot;
+import io.slotify.core.service.BitsetSchedulingService;
+import io.slotify.core.service.DefaultSchedulingService;
+import io.slotify.core.service.ScheduleBitmapIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BitsetSchedulingServiceTest {
+
+    private static final List<Duration> DURATIONS = List.of(
+            Duration.ofMinutes(15), Duration.ofMinutes(30), Duration.ofMinutes(60),
+            Duration.ofMinutes(90), Duration.ofMinutes(120));
+
+    private InMemoryScheduleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryScheduleRepository();
+    }
+
+    @Test
+    void findAvailableSlots_withExampleScenario_returnsExpectedSlots() {
+        repository.save(new Schedule("Alice", List.of(
+                new TimeSlot(LocalTime.of(8, 0), LocalTime.of(9, 30)),
+                new TimeSlot(LocalTime.of(13, 0), LocalTime.of(14, 0)),
+                new TimeSlot(LocalTime.of(16, 0), LocalTime.of(17, 0))
+        )));
+        repository.save(new Schedule("Jack", List.of(
+                new TimeSlot(LocalTime.of(8, 0), LocalTime.of(9, 40)),
+                new TimeSlot(LocalTime.of(13, 0), LocalTime.of(14, 0)),
+                new TimeSlot(LocalTime.of(16, 0), LocalTime.of(17, 0))
+        )));
+
+        var slots = new BitsetSchedulingService(repository).findAvailableSlots(List.of("Alice", "Jack"), Duration.ofMinutes(60));
+
+        assertThat(slots.stream().map(TimeSlot::start).toList()).containsExactly(
+                LocalTime.of(7, 0),
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0),
+                LocalTime.of(12, 0),
+                LocalTime.of(14, 0),
+                LocalTime.of(15, 0),
+                LocalTime.of(17, 0),
+                LocalTime.of(18, 0)
+        );
+    }
+
+    @Test
+    void findAvailableSlots_withUnknownParticipant_throwsException() {
+        repository.save(new Schedule("Alice", List.of()));
+
+        assertThatThrownBy(() -> new BitsetSchedulingService(repository).findAvailableSlots(List.of("Alice", "Unknown"), Duration.ofMinutes(60)))
+                .isInstanceOf(SchedulerException.class)
+                .extracting(e -> ((SchedulerException) e).getErrorType())
+                .isEqualTo(SchedulerException.ErrorType.PARTICIPANT_NOT_FOUND);
+    }
+
+    @Test
+    void findAvailableSlots_withSubMinuteBlackout_matchesDefaultService() {
+        saveRandomSchedules(new Random(7), 4);
+        var blackouts = List.of(new TimeSlot(LocalTime.of(12, 0, 30), LocalTime.of(12, 45)));
+
+        var expected = new DefaultSchedulingService(repository, blackouts).findAvailableSlots(List.of("P0", "P1"), List.of("P2", "P3"), Duration.ofMinutes(30));
+        var actual = new BitsetSchedulingService(repository, blackouts).findAvailableSlots(List.of("P0", "P1"), List.of("P2", "P3"), Duration.ofMinutes(30));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void findAvailableSlots_withFreshScheduleInstances_reusesIndexedBitmaps() {
+        saveRandomSchedules(new Random(5), 4);
+        var index = new ScheduleBitmapIndex();
+        index.index(repository.findAllByParticipants(List.of("P0", "P1", "P2", "P3")).values());
+        var decoding = freshInstances(repository);
+
+        var service = new BitsetSchedulingService(decoding, List.of(), null, index);
+        var first = service.findAvailableSlots(List.of("P0", "P1"), List.of("P2", "P3"), Duration.ofMinutes(30));
+        var second = service.findAvailableSlots(List.of("P0", "P1"), List.of("P2", "P3"), Duration.ofMinutes(30));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(index.stats()).isEqualTo(new ScheduleBitmapIndex.Stats(8, 0, 0, 4));
+    }
+
+    @Test
+    void findAvailableSlots_withSmallIndex_staysWithinBound() {
+        saveRandomSchedules(new Random(9), 6);
+        var index = new ScheduleBitmapIndex(2);
+        var required = List.of("P0", "P1", "P2");
+        var optional = List.of("P3", "P4", "P5");
+
+        var expected = new DefaultSchedulingService(repository).findAvailableSlots(required, optional, Duration.ofMinutes(60));
+        var actual = new BitsetSchedulingService(freshInstances(repository), List.of(), null, index)
+                .findAvailableSlots(required, optional, Duration.ofMinutes(60));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(index.stats().size()).isLessThanOrEqualTo(2);
+        assertThat(index.stats().evictions()).isEqualTo(4);
+    }
+
+    @Test
+    void findAvailableSlots_withFullIndex_evictsLeastRecentlyUsedBitmap() {
+        saveRandomSchedules(new Random(11), 6);
+        var index = new ScheduleBitmapIndex(5);
+        index.index(repository.findAllByParticipants(List.of("P0", "P1", "P2", "P3", "P4")).values());
+        var service = new BitsetSchedulingService(repository, List.of(), null, index);
+
+        List.of(List.of("P0", "P1"), List.of("P2", "P3"), List.of("P5", "P0"), List.of("P1", "P2"), List.of("P3", "P0"))
+                .forEach(required -> service.findAvailableSlots(required, Duration.ofMinutes(60)));
+
+        assertThat(index.stats()).isEqualTo(new ScheduleBitmapIndex.Stats(9, 1, 1, 5));
+    }
+
+    @Test
+    void findAvailableSlots_withRandomSchedules_matchesDefaultService() {
+        var random = new Random(42);
+        var index = new ScheduleBitmapIndex();
+
+        for (int round = 0; round < 200; round++) {
+            repository.clear();
+            saveRandomSchedules(random, 8);
+
+            var blackouts = randomSlots(random, random.nextInt(3));
+            var buffer = random.nextBoolean() ? null : Duration.ofMinutes(5 + random.nextInt(11));
+            var duration = DURATIONS.get(random.nextInt(DURATIONS.size()));
+            var required = List.of("P0", "P1", "P2");
+            var optional = List.of("P3", "P4", "Missing", "P5");
+
+            var expected = new DefaultSchedulingService(repository, blackouts, buffer).findAvailableSlots(required, optional, duration);
+            var actual = new BitsetSchedulingService(repository, blackouts, buffer, index).findAvailableSlots(required, optional, duration);
+
+            assertThat(actual).as("round %d", round).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void findBestSlots_withRandomSchedules_matchesDefaultService() {
+        var random = new Random(23);
+        var index = new ScheduleBitmapIndex();
+
+        for (int round = 0; round < 50; round++) {
+            repository.clear();
+            saveRandomSchedules(random, 8);
+
+            var buffer = random.nextBoolean() ? null : Duration.ofMinutes(5 + random.nextInt(11));
+            var duration = DURATIONS.get(random.nextInt(DURATIONS.size()));
+            var required = List.of("P0", "P1");
+            var optional = List.of("P2", "P3", "P4", "Missing", "P5", "P6", "P7");
+            var limit = 1 + random.nextInt(5);
+
+            var expected = new DefaultSchedulingService(repository, List.of(), buffer).findBestSlots(required, optional, duration, limit);
+            var actual = new BitsetSchedulingService(repository, List.of(), buffer, index).findBestSlots(required, optional, duration, limit);
+
+            assertThat(actual).as("round %d", round).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void findAvailableSlotsByDuration_withRandomSchedules_matchesDefaultService() {
+        var random = new Random(31);
+        var index = new ScheduleBitmapIndex();
+
+        for (int round = 0; round < 50; round++) {
+            repository.clear();
+            saveRandomSchedules(random, 8);
+
+            var blackouts = randomSlots(random, random.nextInt(3));
+            var buffer = random.nextBoolean() ? null : Duration.ofMinutes(5 + random.nextInt(11));
+            var required = List.of("P0", "P1", "P2");
+            var optional = List.of("P3", "Missing", "P4");
+
+            var expected = new DefaultSchedulingService(repository, blackouts, buffer).findAvailableSlotsByDuration(required, optional, DURATIONS);
+            var actual = new BitsetSchedulingService(repository, blackouts, buffer, index).findAvailableSlotsByDuration(required, optional, DURATIONS);
+
+            assertThat(actual).as("round %d", round).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void findAvailableSlotsBatch_withMixedConfigurations_matchesDefaultService() {
+        var random = new Random(11);
+        saveRandomSchedules(random, 8);
+        var queries = new ArrayList<MeetingQuery>();
+        for (int i = 0; i < 50; i++) {
+            var buffer = switch (i % 3) {
+                case 0 -> null;
+                case 1 -> Duration.ofMinutes(5 + random.nextInt(11));
+                default -> Duration.ofSeconds(90);
+            };
+            queries.add(new MeetingQuery(List.of("P" + random.nextInt(4), "P" + (4 + random.nextInt(4))), List.of("P" + random.nextInt(8), "Missing"),
+                    DURATIONS.get(random.nextInt(DURATIONS.size())), buffer, randomSlots(random, random.nextInt(3))));
+        }
+        queries.add(new MeetingQuery(List.of("P0", "Nobody"), List.of(), Duration.ofMinutes(30)));
+
+        var expected = new DefaultSchedulingService(repository).findAvailableSlots(queries);
+        var actual = new BitsetSchedulingService(repository).findAvailableSlots(queries);
+
+        assertThat(actual).hasSize(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            assertThat(actual.get(i).slots()).as("query %d", i).isEqualTo(expected.get(i).slots());
+            assertThat(actual.get(i).isSuccess()).as("query %d", i).isEqualTo(expected.get(i).isSuccess());
+        }
+        assertThat(actual.get(queries.size() - 1).error()).hasMessageContaining("Nobody");
+    }
+
+    private static InMemoryScheduleRepository freshInstances(InMemoryScheduleRepository source) {
+        // Like a repository that decodes every read, each lookup returns new but equal Schedule instances.
+        return new InMemoryScheduleRepository() {
+            @Override
+            public ScheduleSnapshot snapshot() {
+                var inner = source.snapshot();
+                return new ScheduleSnapshot() {
+                    @Override
+                    public long version() {
+                        return inner.version();
+                    }
+
+                    @Override
+                    public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+                        var copies = new HashMap<String, Schedule>();
+                        inner.findAllByParticipants(names).forEach((name, schedule) ->
+                                copies.put(name, new Schedule(name, schedule.busySlots())));
+                        return copies;
+                    }
+
+                    @Override
+                    public Set<String> getAllParticipantNames() {
+                        return inner.getAllParticipantNames();
+                    }
+                };
+            }
+        };
+    }
+
+    private void saveRandomSchedules(Random random, int participants) {
+        for (int i = 0; i < participants; i++) {
+            repository.save(new Schedule("P" + i, randomSlots(random, random.nextInt(8))));
+        }
+    }
+
+    private List<TimeSlot> randomSlots(Random random, int count) {
+        var slots = new ArrayList<TimeSlot>();
+        for (int i = 0; i < count; i++) {
+            var start = 6 * 60 + random.nextInt(14 * 60);
+            var end = start + 5 + random.nextInt(120);
+            slots.add(TimeSlot.ofMinutes(start, Math.min(end, 23 * 60)));
+        }
+        return TimeSlot.mergeOverlapping(slots);
+    }
+}
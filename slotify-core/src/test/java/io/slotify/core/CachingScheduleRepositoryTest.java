@@ -0,0 +1,188 @@
+package io.slotify.core;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.CachingScheduleRepository;
+import io.slotify.core.repository.InMemoryScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingScheduleRepositoryTest {
+
+    private AtomicInteger delegateLookups;
+    private InMemoryScheduleRepository backing;
+    private CachingScheduleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegateLookups = new AtomicInteger();
+        backing = new InMemoryScheduleRepository() {
+            @Override
+            public Optional<Schedule> findByParticipant(String name) {
+                delegateLookups.incrementAndGet();
+                return super.findByParticipant(name);
+            }
+
+            @Override
+            public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+                delegateLookups.addAndGet(names.size());
+                return super.findAllByParticipants(names);
+            }
+        };
+        repository = new CachingScheduleRepository(backing, 2);
+    }
+
+    @Test
+    void findByParticipant_servesRepeatedLookupsFromCache() {
+        repository.save(schedule("Alice", 9));
+
+        var first = repository.findByParticipant("Alice");
+        var second = repository.findByParticipant("Alice");
+
+        assertThat(second).containsSame(first.orElseThrow());
+        assertThat(delegateLookups).hasValue(1);
+        assertThat(repository.stats()).isEqualTo(new CachingScheduleRepository.Stats(1, 1, 0, 1));
+    }
+
+    @Test
+    void findAllByParticipants_onlyLoadsMisses() {
+        repository.save(schedule("Alice", 9));
+        repository.save(schedule("Jack", 10));
+        repository.findByParticipant("Alice");
+
+        var result = repository.findAllByParticipants(List.of("Alice", "Jack", "Unknown"));
+
+        assertThat(result).containsOnlyKeys("Alice", "Jack");
+        assertThat(delegateLookups).hasValue(3);
+    }
+
+    @Test
+    void findByParticipant_evictsLeastRecentlyUsed() {
+        repository.save(schedule("Alice", 9));
+        repository.save(schedule("Jack", 10));
+        repository.save(schedule("Bob", 11));
+
+        repository.findByParticipant("Alice");
+        repository.findByParticipant("Jack");
+        repository.findByParticipant("Alice");
+        repository.findByParticipant("Bob");
+        repository.findByParticipant("Alice");
+
+        assertThat(repository.stats().evictions()).isEqualTo(1);
+        assertThat(repository.stats().size()).isEqualTo(2);
+        assertThat(delegateLookups).hasValue(3);
+    }
+
+    @Test
+    void scheduleChanged_fromAnotherReplica_reloadsSchedule() {
+        repository.save(schedule("Alice", 9));
+        repository.findByParticipant("Alice");
+
+        backing.save(schedule("Alice", 14));
+        repository.scheduleChanged("Alice");
+
+        assertThat(repository.findByParticipant("Alice").orElseThrow()).isEqualTo(schedule("Alice", 14));
+    }
+
+    @Test
+    void clear_dropsCachedSchedules() {
+        repository.save(schedule("Alice", 9));
+        repository.findByParticipant("Alice");
+
+        repository.clear();
+
+        assertThat(repository.findByParticipant("Alice")).isEmpty();
+        assertThat(repository.stats().size()).isZero();
+    }
+
+    @Test
+    void replaceAll_swapsDatasetAndDropsCachedSchedules() {
+        repository.save(schedule("Alice", 9));
+        repository.save(schedule("Jack", 10));
+        repository.findAllByParticipants(List.of("Alice", "Jack"));
+
+        repository.replaceAll(Map.of("Alice", schedule("Alice", 15), "Bob", schedule("Bob", 11)));
+
+        assertThat(repository.getAllParticipantNames()).containsExactlyInAnyOrder("Alice", "Bob");
+        assertThat(repository.findByParticipant("Alice").orElseThrow()).isEqualTo(schedule("Alice", 15));
+        assertThat(repository.findByParticipant("Jack")).isEmpty();
+    }
+
+    @Test
+    void snapshot_withNewerDelegateVersion_dropsCachedSchedules() {
+        repository.save(schedule("Alice", 9));
+        repository.snapshot().findAllByParticipants(List.of("Alice"));
+        repository.snapshot().findAllByParticipants(List.of("Alice"));
+
+        backing.replaceAll(Map.of("Alice", schedule("Alice", 14)));
+
+        assertThat(repository.snapshot().findAllByParticipants(List.of("Alice"))).containsEntry("Alice", schedule("Alice", 14));
+        assertThat(repository.stats().hits()).isEqualTo(1);
+        assertThat(repository.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void findParticipantNamesByPrefix_returnsSortedMatchesUpToLimit() {
+        repository.replaceAll(Map.of(
+                "Jack", schedule("Jack", 9),
+                "Jane", schedule("Jane", 10),
+                "Janet", schedule("Janet", 11),
+                "Alice", schedule("Alice", 12)));
+
+        assertThat(repository.findParticipantNamesByPrefix("Ja", 2)).containsExactly("Jack", "Jane");
+        assertThat(repository.findParticipantNamesByPrefix("Jan", 10)).containsExactly("Jane", "Janet");
+        assertThat(repository.findParticipantNamesByPrefix("Zed", 10)).isEmpty();
+        assertThat(repository.countParticipants()).isEqualTo(4);
+    }
+
+    @Test
+    void findParticipantNamesByPrefix_withCursor_returnsNamesAfterCursor() {
+        repository.replaceAll(Map.of(
+                "Jack", schedule("Jack", 9),
+                "Jane", schedule("Jane", 10),
+                "Janet", schedule("Janet", 11),
+                "Alice", schedule("Alice", 12)));
+
+        assertThat(repository.findParticipantNamesByPrefix("", "Alice", 2)).containsExactly("Jack", "Jane");
+        assertThat(repository.findParticipantNamesByPrefix("", "Jane", 10)).containsExactly("Janet");
+        assertThat(repository.findParticipantNamesByPrefix("Jan", "A", 10)).containsExactly("Jane", "Janet");
+        assertThat(repository.findParticipantNamesByPrefix("Ja", "Janet", 10)).isEmpty();
+    }
+
+    @Test
+    void snapshot_pagesNamesAndCountsFromItsOwnVersion() {
+        repository.replaceAll(Map.of(
+                "Jack", schedule("Jack", 9),
+                "Jane", schedule("Jane", 10),
+                "Alice", schedule("Alice", 12)));
+        var snapshot = repository.snapshot();
+
+        repository.replaceAll(Map.of("Janet", schedule("Janet", 11)));
+
+        assertThat(snapshot.countParticipants()).isEqualTo(3);
+        assertThat(snapshot.findParticipantNamesByPrefix("Ja", null, 10)).containsExactly("Jack", "Jane");
+        assertThat(snapshot.findParticipantNamesByPrefix("", "Alice", 1)).containsExactly("Jack");
+        assertThat(repository.snapshot().findParticipantNamesByPrefix("Ja", null, 10)).containsExactly("Janet");
+    }
+
+    @Test
+    void constructor_withNonPositiveSize_throwsException() {
+        assertThatThrownBy(() -> new CachingScheduleRepository(backing, 0))
+                .isInstanceOf(SchedulerException.class);
+    }
+
+    private Schedule schedule(String name, int hour) {
+        return new Schedule(name, List.of(new TimeSlot(LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0))));
+    }
+}
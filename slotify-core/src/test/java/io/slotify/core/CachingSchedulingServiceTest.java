@@ -0,0 +1,294 @@
+package io.slotify.core;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.MeetingQueryResult;
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.InMemoryScheduleRepository;
+import io.slotify.core.service.CachingSchedulingService;
+import io.slotify.core.service.DefaultSchedulingService;
+import io.slotify.core.service.ForwardingSchedulingService;
+import io.slotify.core.service.SchedulingResultCache;
+import io.slotify.core.service.SchedulingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingSchedulingServiceTest {
+
+    private static final Duration ONE_HOUR = Duration.ofMinutes(60);
+
+    private InMemoryScheduleRepository repository;
+    private SchedulingResultCache cache;
+    private AtomicInteger computations;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryScheduleRepository();
+        cache = new SchedulingResultCache(10);
+        computations = new AtomicInteger();
+        repository.save(new Schedule("Alice", List.of(slot(9, 10))));
+        repository.save(new Schedule("Bob", List.of(slot(11, 12))));
+        repository.save(new Schedule("Carol", List.of(slot(14, 15))));
+        repository.save(new Schedule("Dave", List.of()));
+    }
+
+    @Test
+    void findAvailableSlots_repeatedQuery_isServedFromCache() {
+        var service = service(List.of(), null);
+
+        var first = service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), ONE_HOUR);
+        var second = service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), ONE_HOUR);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(computations).hasValue(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void findAvailableSlots_withReorderedRequiredParticipants_sharesCacheEntry() {
+        var service = service(List.of(), null);
+
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        service.findAvailableSlots(List.of("Bob", "Alice"), List.of(), ONE_HOUR);
+
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void findAvailableSlots_withReorderedOptionalParticipants_keepsCallerOrder() {
+        var service = service(List.of(), null);
+
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol", "Dave"), ONE_HOUR);
+        var reordered = service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Dave", "Carol"), ONE_HOUR);
+
+        assertThat(computations).hasValue(1);
+        var at7 = reordered.stream().filter(s -> s.timeSlot().start().equals(LocalTime.of(7, 0))).findFirst().orElseThrow();
+        assertThat(at7.availableOptionalParticipants()).containsExactly("Dave", "Carol");
+        assertThat(reordered).isEqualTo(new DefaultSchedulingService(repository)
+                .findAvailableSlots(List.of("Alice", "Bob"), List.of("Dave", "Carol"), ONE_HOUR));
+    }
+
+    @Test
+    void findBestSlots_afterFullSearch_ranksCachedResult() {
+        var service = service(List.of(), null);
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol", "Dave"), ONE_HOUR);
+
+        var best = service.findBestSlots(List.of("Alice", "Bob"), List.of("Dave", "Carol"), ONE_HOUR, 2);
+
+        assertThat(computations).hasValue(1);
+        assertThat(best).isEqualTo(new DefaultSchedulingService(repository)
+                .findBestSlots(List.of("Alice", "Bob"), List.of("Dave", "Carol"), ONE_HOUR, 2));
+    }
+
+    @Test
+    void findAvailableSlotsByDuration_computesOnlyUncachedDurations() {
+        var service = service(List.of(), null);
+        var thirty = service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), Duration.ofMinutes(30));
+
+        var results = service.findAvailableSlotsByDuration(List.of("Alice", "Bob"), List.of("Carol"), List.of(Duration.ofMinutes(30), ONE_HOUR));
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), ONE_HOUR);
+
+        assertThat(computations).hasValue(2);
+        assertThat(results.keySet()).containsExactly(Duration.ofMinutes(30), ONE_HOUR);
+        assertThat(results.get(Duration.ofMinutes(30))).isEqualTo(thirty);
+        assertThat(results.get(ONE_HOUR)).isEqualTo(new DefaultSchedulingService(repository)
+                .findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), ONE_HOUR));
+    }
+
+    @Test
+    void findAvailableSlots_sharedResults_cannotBeModifiedByCallers() {
+        var service = service(List.of(), null);
+
+        var computed = service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), ONE_HOUR);
+        var cached = service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), ONE_HOUR);
+
+        assertThatThrownBy(() -> computed.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> cached.sort(Comparator.comparing((AvailableSlot slot) -> slot.timeSlot().start()).reversed()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(computations).hasValue(1);
+        assertThat(service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), ONE_HOUR)).isEqualTo(computed);
+    }
+
+    @Test
+    void findAvailableSlots_afterSave_recomputes() {
+        var service = service(List.of(), null);
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+
+        repository.save(new Schedule("Alice", List.of(slot(7, 19))));
+        var slots = service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+
+        assertThat(computations).hasValue(2);
+        assertThat(slots).isEmpty();
+    }
+
+    @Test
+    void findAvailableSlots_fromReaderOnOlderVersion_keepsNewerEntries() {
+        var service = service(List.of(), null);
+        var lagging = new CachingSchedulingService(new DefaultSchedulingService(repository), new InMemoryScheduleRepository() {
+            @Override
+            public long dataVersion() {
+                return repository.dataVersion() - 1;
+            }
+        }, cache, List.of(), null);
+
+        var first = service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        var stale = lagging.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        var second = service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        lagging.findAvailableSlots(List.of("Alice", "Carol"), List.of(), ONE_HOUR);
+
+        assertThat(stale).isEqualTo(first);
+        assertThat(second).isEqualTo(first);
+        assertThat(computations).hasValue(1);
+        assertThat(cache.stats()).isEqualTo(new SchedulingResultCache.Stats(1, 3, 0, 1));
+    }
+
+    @Test
+    void findAvailableSlots_afterVersionCounterReset_cachesAgain() {
+        var version = new AtomicLong(5_000);
+        var service = new CachingSchedulingService(new DefaultSchedulingService(repository), new InMemoryScheduleRepository() {
+            @Override
+            public long dataVersion() {
+                return version.get();
+            }
+        }, cache, List.of(), null);
+
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        version.set(1);
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+
+        assertThat(cache.stats()).isEqualTo(new SchedulingResultCache.Stats(2, 2, 0, 1));
+    }
+
+    @Test
+    void findAvailableSlots_afterClear_doesNotReturnStaleResult() {
+        var service = service(List.of(), null);
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+
+        repository.clear();
+
+        assertThatThrownBy(() -> service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR))
+                .isInstanceOf(SchedulerException.class)
+                .extracting(e -> ((SchedulerException) e).getErrorType())
+                .isEqualTo(SchedulerException.ErrorType.PARTICIPANT_NOT_FOUND);
+    }
+
+    @Test
+    void findAvailableSlots_withDifferentBufferOrBlackouts_usesSeparateEntries() {
+        service(List.of(), null).findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        service(List.of(), Duration.ofMinutes(10)).findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        service(List.of(slot(12, 13)), null).findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        service(List.of(slot(12, 13)), Duration.ZERO).findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+
+        assertThat(computations).hasValue(3);
+    }
+
+    @Test
+    void findAvailableSlots_whenDelegateFails_doesNotCacheFailure() {
+        var service = service(List.of(), null);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> service.findAvailableSlots(List.of("Alice", "Zed"), List.of(), ONE_HOUR))
+                    .isInstanceOf(SchedulerException.class);
+        }
+        assertThat(computations).hasValue(2);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void findAvailableSlots_beyondMaxEntries_evictsLeastRecentlyUsed() {
+        cache = new SchedulingResultCache(1);
+        var service = service(List.of(), null);
+
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        service.findAvailableSlots(List.of("Alice", "Carol"), List.of(), ONE_HOUR);
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+
+        assertThat(computations).hasValue(3);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void findAvailableSlotsBatch_servesCachedItemsAndComputesTheRest() {
+        var service = service(List.of(), null);
+        var single = service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol", "Dave"), ONE_HOUR);
+
+        var results = service.findAvailableSlots(List.of(
+                new MeetingQuery(List.of("Bob", "Alice"), List.of("Dave", "Carol"), ONE_HOUR),
+                new MeetingQuery(List.of("Alice", "Carol"), List.of(), ONE_HOUR),
+                new MeetingQuery(List.of("Alice", "Zed"), List.of(), ONE_HOUR)));
+
+        assertThat(computations).hasValue(3);
+        assertThat(results.get(0).slots()).hasSameSizeAs(single);
+        assertThat(results.get(0).slots().get(0).availableOptionalParticipants()).containsExactly("Dave", "Carol");
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(2).isSuccess()).isFalse();
+
+        service.findAvailableSlots(List.of(new MeetingQuery(List.of("Carol", "Alice"), List.of(), ONE_HOUR)));
+        assertThat(computations).hasValue(3);
+    }
+
+    private SchedulingService service(List<TimeSlot> blackouts, Duration buffer) {
+        var engine = new DefaultSchedulingService(repository, blackouts, buffer);
+        SchedulingService counting = new ForwardingSchedulingService(engine) {
+            @Override
+            public List<TimeSlot> findAvailableSlots(List<String> participants, Duration meetingDuration) {
+                computations.incrementAndGet();
+                return engine.findAvailableSlots(participants, meetingDuration);
+            }
+
+            @Override
+            public List<AvailableSlot> findAvailableSlots(List<String> required, List<String> optional, Duration meetingDuration) {
+                computations.incrementAndGet();
+                return engine.findAvailableSlots(required, optional, meetingDuration);
+            }
+
+            @Override
+            public Map<Duration, List<AvailableSlot>> findAvailableSlotsByDuration(List<String> required, List<String> optional, List<Duration> durations) {
+                computations.incrementAndGet();
+                return engine.findAvailableSlotsByDuration(required, optional, durations);
+            }
+
+            @Override
+            public List<AvailableSlot> findBestSlots(List<String> required, List<String> optional, Duration meetingDuration, int limit) {
+                computations.incrementAndGet();
+                return engine.findBestSlots(required, optional, meetingDuration, limit);
+            }
+
+            @Override
+            public Stream<AvailableSlot> streamAvailableSlots(List<String> required, List<String> optional, Duration meetingDuration) {
+                computations.incrementAndGet();
+                return engine.streamAvailableSlots(required, optional, meetingDuration);
+            }
+
+            @Override
+            public List<MeetingQueryResult> findAvailableSlots(List<MeetingQuery> queries) {
+                computations.addAndGet(queries.size());
+                return engine.findAvailableSlots(queries);
+            }
+        };
+        return new CachingSchedulingService(counting, repository, cache, blackouts, buffer);
+    }
+
+    private static TimeSlot slot(int startHour, int endHour) {
+        return new TimeSlot(LocalTime.of(startHour, 0), LocalTime.of(endHour, 0));
+    }
+}
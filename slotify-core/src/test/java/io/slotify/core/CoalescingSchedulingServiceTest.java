@@ -0,0 +1,163 @@
+package io.slotify.core;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.InMemoryScheduleRepository;
+import io.slotify.core.service.CoalescingSchedulingService;
+import io.slotify.core.service.DefaultSchedulingService;
+import io.slotify.core.service.ForwardingSchedulingService;
+import io.slotify.core.service.SchedulingRequestCoalescer;
+import io.slotify.core.service.SchedulingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingSchedulingServiceTest {
+
+    private static final Duration ONE_HOUR = Duration.ofMinutes(60);
+
+    private InMemoryScheduleRepository repository;
+    private SchedulingRequestCoalescer coalescer;
+    private AtomicInteger computations;
+    private CountDownLatch started;
+    private CountDownLatch release;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryScheduleRepository();
+        coalescer = new SchedulingRequestCoalescer();
+        computations = new AtomicInteger();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        executor = Executors.newCachedThreadPool();
+        repository.save(new Schedule("Alice", List.of(slot(9, 10))));
+        repository.save(new Schedule("Bob", List.of(slot(11, 12))));
+        repository.save(new Schedule("Carol", List.of(slot(14, 15))));
+        repository.save(new Schedule("Dave", List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findAvailableSlots_concurrentIdenticalQueries_shareOneComputation() throws Exception {
+        var service = blockingService();
+
+        var leader = submit(service, List.of("Alice", "Bob"), List.of("Carol", "Dave"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var follower = submit(service, List.of("Bob", "Alice"), List.of("Dave", "Carol"));
+        awaitCoalesced(1);
+        release.countDown();
+
+        var expected = new DefaultSchedulingService(repository);
+        assertThat(leader.get(5, TimeUnit.SECONDS))
+                .isEqualTo(expected.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol", "Dave"), ONE_HOUR));
+        assertThat(follower.get(5, TimeUnit.SECONDS))
+                .isEqualTo(expected.findAvailableSlots(List.of("Bob", "Alice"), List.of("Dave", "Carol"), ONE_HOUR));
+        assertThat(computations).hasValue(1);
+        assertThat(coalescer.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void findAvailableSlots_whenSharedComputationFails_propagatesErrorToEveryCaller() throws Exception {
+        var service = blockingService();
+
+        var leader = submit(service, List.of("Alice", "Zed"), List.of());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var follower = submit(service, List.of("Alice", "Zed"), List.of());
+        awaitCoalesced(1);
+        release.countDown();
+
+        for (var future : List.of(leader, follower)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(SchedulerException.class)
+                    .hasMessageContaining("Zed");
+        }
+        assertThat(computations).hasValue(1);
+        assertThat(coalescer.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void findAvailableSlots_afterDataVersionChange_doesNotJoinOlderComputation() throws Exception {
+        var service = blockingService();
+
+        var leader = submit(service, List.of("Alice", "Bob"), List.of());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        repository.save(new Schedule("Alice", List.of(slot(7, 19))));
+        var later = submit(service, List.of("Alice", "Bob"), List.of());
+        release.countDown();
+
+        leader.get(5, TimeUnit.SECONDS);
+        assertThat(later.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(computations).hasValue(2);
+        assertThat(coalescer.stats().coalesced()).isZero();
+    }
+
+    @Test
+    void findAvailableSlots_sequentialQueries_areComputedEachTime() {
+        release.countDown();
+        var service = blockingService();
+
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+        service.findAvailableSlots(List.of("Alice", "Bob"), List.of(), ONE_HOUR);
+
+        assertThat(computations).hasValue(2);
+        assertThat(coalescer.stats().coalesced()).isZero();
+    }
+
+    private Future<List<AvailableSlot>> submit(SchedulingService service, List<String> required, List<String> optional) {
+        return executor.submit(() -> service.findAvailableSlots(required, optional, ONE_HOUR));
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.stats().coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(coalescer.stats().coalesced()).isEqualTo(expected);
+    }
+
+    private SchedulingService blockingService() {
+        var engine = new DefaultSchedulingService(repository);
+        SchedulingService blocking = new ForwardingSchedulingService(engine) {
+            @Override
+            public List<AvailableSlot> findAvailableSlots(List<String> required, List<String> optional, Duration meetingDuration) {
+                computations.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return engine.findAvailableSlots(required, optional, meetingDuration);
+            }
+        };
+        return new CoalescingSchedulingService(blocking, repository, coalescer, List.of(), null);
+    }
+
+    private static TimeSlot slot(int startHour, int endHour) {
+        return new TimeSlot(LocalTime.of(startHour, 0), LocalTime.of(endHour, 0));
+    }
+}
@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -78,6 +79,113 @@ class CsvCalendarParserTest {
                 .hasMessageContaining("Invalid time format");
     }
 
+    @Test
+    void parseAndBuildSchedules_withQuotedFields_unescapesInPlace() throws IOException {
+        var csv = "\"Doe, Jane\",\"Say \"\"hi\"\"\",8:00,9:00\r\n\"Doe, Jane\",Sync,9:00,9:30\r\n";
+        var path = createTempFile("calendar.csv", csv);
+
+        var schedules = parser.parseAndBuildSchedules(path);
+
+        assertThat(schedules).containsOnlyKeys("Doe, Jane");
+        assertThat(schedules.get("Doe, Jane").busySlots())
+                .containsExactly(new TimeSlot(LocalTime.of(8, 0), LocalTime.of(9, 30)));
+    }
+
+    @Test
+    void parseAndBuildSchedules_withLargeFile_isNotLineLimited() throws IOException {
+        var csv = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            var minute = (i % 600) + 7 * 60;
+            csv.append("P").append(i % 100).append(",Event,")
+                    .append(minute / 60).append(':').append("%02d".formatted(minute % 60)).append(',')
+                    .append((minute + 1) / 60).append(':').append("%02d".formatted((minute + 1) % 60)).append('\n');
+        }
+        var path = createTempFile("calendar.csv", csv.toString());
+
+        var schedules = parser.parseAndBuildSchedules(path);
+
+        assertThat(schedules).hasSize(100);
+        assertThat(schedules.get("P0").busySlots()).hasSize(6);
+    }
+
+    @Test
+    void parseAndBuildSchedules_withInvalidLine_reportsLineNumber() throws IOException {
+        var csv = "Alice,Meeting,8:00,9:00\r\n\r\nAlice,Meeting,8:00\r\n";
+        var path = createTempFile("calendar.csv", csv);
+
+        assertThatThrownBy(() -> parser.parseAndBuildSchedules(path))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("at line 3");
+    }
+
+    @Test
+    void parseAndBuildSchedules_withSmallChunks_matchesSingleChunkParse() throws IOException {
+        var csv = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            var minute = 7 * 60 + (i * 37) % 660;
+            csv.append(i % 3 == 0 ? "\"Doe, Jane\"" : "P" + i % 7).append(",Event ").append(i).append(',')
+                    .append(minute / 60).append(':').append("%02d".formatted(minute % 60)).append(',')
+                    .append((minute + 20) / 60).append(':').append("%02d".formatted((minute + 20) % 60))
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        var path = createTempFile("calendar.csv", csv.toString());
+
+        var chunked = new CsvCalendarParser(257).parseAndBuildSchedules(path);
+
+        assertThat(chunked).isEqualTo(parser.parseAndBuildSchedules(path));
+    }
+
+    @Test
+    void parseAndBuildSchedules_withSmallChunks_reportsAbsoluteLineNumber() throws IOException {
+        var csv = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            csv.append("Alice,Meeting,8:00,9:00\r\n");
+        }
+        csv.append("Alice,Meeting,8:00,25:00\r\n");
+        csv.append("Alice,Meeting\r\n");
+        var path = createTempFile("calendar.csv", csv.toString());
+
+        assertThatThrownBy(() -> new CsvCalendarParser(100).parseAndBuildSchedules(path))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("at line 501");
+    }
+
+    @Test
+    void parseBlackouts_acceptsSameTimeShapesAsHourMinutePattern() throws IOException {
+        var blackouts = """
+                7:05,07:30
+                0000000000000000008:00,23:59
+                """;
+        var path = createTempFile("blackout.csv", blackouts);
+
+        var result = parser.parseBlackouts(path);
+
+        assertThat(result).containsExactly(
+                new TimeSlot(LocalTime.of(7, 5), LocalTime.of(7, 30)),
+                new TimeSlot(LocalTime.of(8, 0), LocalTime.of(23, 59)));
+    }
+
+    @Test
+    void parseAndBuildSchedules_withMalformedTimes_throwsException() throws IOException {
+        for (var time : List.of("7:5", "7:60", "24:30", "+7:05", "7:05:00", ":05", "07:5x", "00000000000000000007:05")) {
+            var path = createTempFile("calendar.csv", "Alice,Meeting," + time + ",23:00");
+
+            assertThatThrownBy(() -> parser.parseAndBuildSchedules(path))
+                    .as(time)
+                    .isInstanceOf(SchedulerException.class)
+                    .hasMessage("Invalid time format '%s' at line 1", time);
+        }
+    }
+
+    @Test
+    void parseAndBuildSchedules_withMidnightEnd_throwsTimeRangeException() throws IOException {
+        var path = createTempFile("calendar.csv", "Alice,Meeting,22:00,24:00");
+
+        assertThatThrownBy(() -> parser.parseAndBuildSchedules(path))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessage("End time 00:00 must be after start time 22:00");
+    }
+
     @Test
     void parseBlackouts_withValidFile_parsesCorrectly() throws IOException {
         var blackouts = """
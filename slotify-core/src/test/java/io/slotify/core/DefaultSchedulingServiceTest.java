@@ -1,16 +1,32 @@
 package io.slotify.core;
 
 import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.metrics.MetricsRegistry;
+import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.ConflictSlot;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.MeetingQueryResult;
+import io.slotify.core.model.QuorumSlot;
 import io.slotify.core.model.Schedule;
 import io.slotify.core.model.TimeSlot;
 import io.slotify.core.repository.InMemoryScheduleRepository;
+import io.slotify.core.repository.ScheduleSnapshot;
 import io.slotify.core.service.DefaultSchedulingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -248,6 +264,17 @@ class DefaultSchedulingServiceTest {
         assertThat(startTimes).doesNotContain(LocalTime.of(12, 0));
     }
 
+    @Test
+    void findAvailableSlots_withOptionalParticipants_returnsUnmodifiableList() {
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Jack", List.of()));
+        repository.save(new Schedule("Bob", List.of()));
+
+        var slots = service.findAvailableSlots(List.of("Alice", "Jack"), List.of("Bob"), Duration.ofMinutes(60));
+
+        assertThatThrownBy(() -> slots.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void findAvailableSlots_withOptionalParticipants_returnsAvailabilityInfo() {
         repository.save(new Schedule("Alice", List.of()));
@@ -287,4 +314,456 @@ class DefaultSchedulingServiceTest {
         assertThat(slot12.availableOptionalParticipants()).containsExactlyInAnyOrder("Jack", "Bob");
     }
 
+    @Test
+    void findAvailableSlots_withManyOptionalParticipants_matchesPerSlotBusyCheck() {
+        var random = new Random(3);
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Bob", List.of()));
+        var optional = new ArrayList<String>();
+        for (int i = 0; i < 80; i++) {
+            var busy = new ArrayList<TimeSlot>();
+            for (int j = random.nextInt(10); j > 0; j--) {
+                var start = 6 * 60 + random.nextInt(14 * 60);
+                busy.add(TimeSlot.ofMinutes(start, Math.min(start + 5 + random.nextInt(90), 23 * 60)));
+            }
+            repository.save(new Schedule("O" + i, busy));
+            optional.add("O" + i);
+        }
+        optional.add("Missing");
+
+        for (var buffer : List.of(Duration.ZERO, Duration.ofMinutes(10), Duration.ofSeconds(90))) {
+            for (var duration : List.of(Duration.ofMinutes(30), Duration.ofMinutes(60), Duration.ofSeconds(1830))) {
+                var slots = new DefaultSchedulingService(repository, List.of(), buffer).findAvailableSlots(List.of("Alice", "Bob"), optional, duration);
+
+                assertThat(slots).isNotEmpty();
+                for (var slot : slots) {
+                    var effectiveSlot = slot.timeSlot().expandBy(buffer);
+                    var unavailable = optional.stream()
+                            .filter(name -> repository.findByParticipant(name).map(s -> s.isBusyDuring(effectiveSlot)).orElse(false))
+                            .toList();
+                    var available = optional.stream().filter(name -> !unavailable.contains(name)).toList();
+                    assertThat(slot.unavailableOptionalParticipants()).as("%s buffer %s", slot.timeSlot(), buffer).isEqualTo(unavailable);
+                    assertThat(slot.availableOptionalParticipants()).as("%s buffer %s", slot.timeSlot(), buffer).isEqualTo(available);
+                }
+            }
+        }
+    }
+
+    @Test
+    void findBestSlots_returnsMostAvailableOptionalFirstThenEarliestStart() {
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Bob", List.of()));
+        repository.save(new Schedule("Carol", List.of(new TimeSlot(LocalTime.of(7, 0), LocalTime.of(12, 0)))));
+        repository.save(new Schedule("Dave", List.of(new TimeSlot(LocalTime.of(7, 0), LocalTime.of(10, 0)))));
+
+        var slots = service.findBestSlots(List.of("Alice", "Bob"), List.of("Carol", "Dave"), Duration.ofMinutes(60), 3);
+
+        assertThat(slots).extracting(s -> s.timeSlot().start())
+                .containsExactly(LocalTime.of(12, 0), LocalTime.of(13, 0), LocalTime.of(14, 0));
+        assertThat(slots.get(0).availableOptionalParticipants()).containsExactly("Carol", "Dave");
+    }
+
+    @Test
+    void findBestSlots_withRandomSchedules_matchesRankedFullSearch() {
+        var random = new Random(5);
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Bob", List.of(new TimeSlot(LocalTime.of(12, 0), LocalTime.of(13, 0)))));
+        var optional = new ArrayList<String>();
+        for (int i = 0; i < 40; i++) {
+            var busy = new ArrayList<TimeSlot>();
+            for (int j = random.nextInt(6); j > 0; j--) {
+                var start = 7 * 60 + random.nextInt(12 * 60);
+                busy.add(TimeSlot.ofMinutes(start, Math.min(start + 15 + random.nextInt(120), 19 * 60)));
+            }
+            repository.save(new Schedule("O" + i, busy));
+            optional.add("O" + i);
+        }
+
+        for (var limit : List.of(1, 3, 10, 100)) {
+            var all = service.findAvailableSlots(List.of("Alice", "Bob"), optional, Duration.ofMinutes(30));
+            var expected = all.stream()
+                    .sorted(Comparator.comparingInt((AvailableSlot s) -> -s.availableOptionalParticipants().size())
+                            .thenComparing(s -> s.timeSlot().start()))
+                    .limit(limit)
+                    .toList();
+
+            assertThat(service.findBestSlots(List.of("Alice", "Bob"), optional, Duration.ofMinutes(30), limit)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void findBestSlots_withNonPositiveLimit_throwsException() {
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Bob", List.of()));
+
+        assertThatThrownBy(() -> service.findBestSlots(List.of("Alice", "Bob"), List.of(), Duration.ofMinutes(30), 0))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("Limit");
+    }
+
+    @Test
+    void streamAvailableSlots_matchesListAndStopsAtFirstMatch() {
+        repository.save(new Schedule("Alice", List.of(new TimeSlot(LocalTime.of(7, 0), LocalTime.of(9, 0)))));
+        repository.save(new Schedule("Bob", List.of()));
+        repository.save(new Schedule("Carol", List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(11, 0)))));
+
+        var expected = service.findAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), Duration.ofMinutes(60));
+        assertThat(service.streamAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), Duration.ofMinutes(60)).toList())
+                .isEqualTo(expected);
+
+        var evaluated = new AtomicInteger();
+        var first = service.streamAvailableSlots(List.of("Alice", "Bob"), List.of("Carol"), Duration.ofMinutes(60))
+                .peek(slot -> evaluated.incrementAndGet())
+                .filter(slot -> slot.unavailableOptionalParticipants().isEmpty())
+                .findFirst();
+        assertThat(first).map(s -> s.timeSlot().start()).contains(LocalTime.of(11, 0));
+        assertThat(evaluated).hasValue(3);
+    }
+
+    @Test
+    void findQuorumSlots_returnsSlotsWhereEnoughOfThePoolIsFree() {
+        repository.save(new Schedule("Author", List.of(new TimeSlot(LocalTime.of(7, 0), LocalTime.of(9, 0)))));
+        repository.save(new Schedule("R1", List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(11, 0)))));
+        repository.save(new Schedule("R2", List.of(new TimeSlot(LocalTime.of(10, 0), LocalTime.of(19, 0)))));
+        repository.save(new Schedule("R3", List.of(new TimeSlot(LocalTime.of(12, 0), LocalTime.of(19, 0)))));
+
+        var slots = service.findQuorumSlots(List.of("Author"), List.of("R1", "R2", "R3"), 2, Duration.ofMinutes(60));
+
+        assertThat(slots).extracting(s -> s.timeSlot().start())
+                .containsExactly(LocalTime.of(9, 0), LocalTime.of(11, 0));
+        assertThat(slots.get(0).availableParticipants()).containsExactly("R2", "R3");
+        assertThat(slots.get(1).availableParticipants()).containsExactly("R1", "R3");
+    }
+
+    @Test
+    void findQuorumSlots_withLargePool_matchesPerSlotBusyCheck() {
+        var random = new Random(9);
+        repository.save(new Schedule("Author", List.of(new TimeSlot(LocalTime.of(12, 0), LocalTime.of(13, 0)))));
+        repository.save(new Schedule("Host", List.of()));
+        var pool = new ArrayList<String>();
+        for (int i = 0; i < 300; i++) {
+            var busy = new ArrayList<TimeSlot>();
+            for (int j = random.nextInt(8); j > 0; j--) {
+                var start = 6 * 60 + random.nextInt(14 * 60);
+                busy.add(TimeSlot.ofMinutes(start, Math.min(start + 5 + random.nextInt(120), 23 * 60)));
+            }
+            repository.save(new Schedule("R" + i, busy));
+            pool.add("R" + i);
+        }
+
+        for (var buffer : List.of(Duration.ZERO, Duration.ofMinutes(10), Duration.ofSeconds(90))) {
+            for (var duration : List.of(Duration.ofMinutes(30), Duration.ofMinutes(90))) {
+                var quorumService = new DefaultSchedulingService(repository, List.of(), buffer);
+                var candidates = quorumService.findAvailableSlots(List.of("Author", "Host"), List.of(), duration);
+                var slots = quorumService.findQuorumSlots(List.of("Author", "Host"), pool, 200, duration);
+
+                var expected = candidates.stream()
+                        .map(candidate -> pool.stream()
+                                .filter(name -> !repository.findByParticipant(name).orElseThrow().isBusyDuring(candidate.timeSlot().expandBy(buffer)))
+                                .toList())
+                        .toList();
+                var expectedSlots = new ArrayList<QuorumSlot>();
+                for (int i = 0; i < candidates.size(); i++) {
+                    if (expected.get(i).size() >= 200) {
+                        expectedSlots.add(new QuorumSlot(candidates.get(i).timeSlot(), expected.get(i)));
+                    }
+                }
+                assertThat(slots).as("buffer %s duration %s", buffer, duration).isEqualTo(expectedSlots);
+            }
+        }
+    }
+
+    @Test
+    void findQuorumSlots_withQuorumLargerThanPool_throwsException() {
+        repository.save(new Schedule("R1", List.of()));
+        repository.save(new Schedule("R2", List.of()));
+
+        assertThatThrownBy(() -> service.findQuorumSlots(List.of(), List.of("R1", "R2"), 3, Duration.ofMinutes(30)))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("Quorum");
+    }
+
+    @Test
+    void findQuorumSlots_withUnknownPoolMember_throwsException() {
+        repository.save(new Schedule("R1", List.of()));
+
+        assertThatThrownBy(() -> service.findQuorumSlots(List.of(), List.of("R1", "Nobody"), 2, Duration.ofMinutes(30)))
+                .isInstanceOf(SchedulerException.class)
+                .extracting(e -> ((SchedulerException) e).getErrorType())
+                .isEqualTo(SchedulerException.ErrorType.PARTICIPANT_NOT_FOUND);
+    }
+
+    @Test
+    void findLeastConflictSlots_withNoCommonSlot_namesFewestConflicts() {
+        repository.save(new Schedule("Alice", List.of(new TimeSlot(LocalTime.of(7, 0), LocalTime.of(13, 0)))));
+        repository.save(new Schedule("Bob", List.of(new TimeSlot(LocalTime.of(12, 0), LocalTime.of(19, 0)))));
+        repository.save(new Schedule("Carol", List.of(new TimeSlot(LocalTime.of(7, 0), LocalTime.of(8, 0)))));
+
+        assertThat(service.findAvailableSlots(List.of("Alice", "Bob", "Carol"), Duration.ofMinutes(60))).isEmpty();
+        var slots = service.findLeastConflictSlots(List.of("Alice", "Bob", "Carol"), Duration.ofMinutes(60), 3);
+
+        assertThat(slots).extracting(s -> s.timeSlot().start())
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(9, 0), LocalTime.of(10, 0));
+        assertThat(slots).allSatisfy(s -> assertThat(s.conflictingParticipants()).containsExactly("Alice"));
+    }
+
+    @Test
+    void findLeastConflictSlots_withRandomSchedules_matchesPerSlotBusyCheck() {
+        var random = new Random(17);
+        var required = new ArrayList<String>();
+        for (int i = 0; i < 12; i++) {
+            var busy = new ArrayList<TimeSlot>();
+            for (int j = 1 + random.nextInt(5); j > 0; j--) {
+                var start = 6 * 60 + random.nextInt(14 * 60);
+                busy.add(TimeSlot.ofMinutes(start, Math.min(start + 15 + random.nextInt(180), 23 * 60)));
+            }
+            repository.save(new Schedule("P" + i, busy));
+            required.add("P" + i);
+        }
+        var blackouts = List.of(new TimeSlot(LocalTime.of(12, 0), LocalTime.of(13, 0)));
+
+        for (var buffer : List.of(Duration.ZERO, Duration.ofMinutes(15), Duration.ofSeconds(90))) {
+            var conflictService = new DefaultSchedulingService(repository, blackouts, buffer);
+            var all = conflictService.findLeastConflictSlots(required, Duration.ofMinutes(30), 100);
+
+            assertThat(all).isNotEmpty();
+            assertThat(all).extracting(s -> s.timeSlot().start()).doesNotContain(LocalTime.of(12, 0), LocalTime.of(12, 30));
+            for (var slot : all) {
+                var expected = required.stream()
+                        .filter(name -> repository.findByParticipant(name).orElseThrow().isBusyDuring(slot.timeSlot().expandBy(buffer)))
+                        .toList();
+                assertThat(slot.conflictingParticipants()).as("%s buffer %s", slot.timeSlot(), buffer).isEqualTo(expected);
+            }
+            assertThat(all).isSortedAccordingTo(Comparator.comparingInt((ConflictSlot s) -> s.conflictingParticipants().size())
+                    .thenComparing(s -> s.timeSlot().start()));
+            assertThat(conflictService.findLeastConflictSlots(required, Duration.ofMinutes(30), 4)).isEqualTo(all.subList(0, 4));
+        }
+    }
+
+    @Test
+    void findAvailableSlots_readsRequiredAndOptionalFromOneSnapshot() {
+        var snapshots = new AtomicInteger();
+        var batchLookups = new AtomicInteger();
+        var countingRepository = countingRepository(snapshots, batchLookups);
+        List.of("Alice", "Jack", "Bob", "Charlie").forEach(name -> countingRepository.save(new Schedule(name, List.of())));
+
+        new DefaultSchedulingService(countingRepository)
+                .findAvailableSlots(List.of("Alice", "Jack"), List.of("Bob", "Charlie"), Duration.ofMinutes(60));
+
+        assertThat(snapshots).hasValue(1);
+        assertThat(batchLookups).hasValue(1);
+    }
+
+    @Test
+    void findAvailableSlots_isNotAffectedByReplaceAllAfterSnapshot() {
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Jack", List.of()));
+        var snapshot = repository.snapshot();
+
+        repository.replaceAll(Map.of("Bob", new Schedule("Bob", List.of())));
+
+        assertThat(snapshot.getAllParticipantNames()).containsExactlyInAnyOrder("Alice", "Jack");
+        assertThat(snapshot.findAllByParticipants(List.of("Alice", "Bob"))).containsOnlyKeys("Alice");
+        assertThat(repository.snapshot().version()).isGreaterThan(snapshot.version());
+    }
+
+    @Test
+    void snapshot_seesSavesToItsGenerationAndCountsEachNameOnce() {
+        repository.save(new Schedule("Jack", List.of()));
+        var snapshot = repository.snapshot();
+
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Jack", List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0)))));
+
+        assertThat(snapshot.findAllByParticipants(List.of("Alice"))).containsOnlyKeys("Alice");
+        assertThat(repository.countParticipants()).isEqualTo(2);
+        assertThat(repository.findParticipantNamesByPrefix("", null, 10)).containsExactly("Alice", "Jack");
+        assertThat(repository.snapshot().version()).isEqualTo(snapshot.version() + 2);
+    }
+
+    @Test
+    void findAvailableSlots_withMetrics_recordsEachPhase() {
+        var metrics = new MetricsRegistry();
+        var instrumented = new DefaultSchedulingService(repository, List.of(), null, metrics);
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Bob", List.of()));
+
+        instrumented.findAvailableSlots(List.of("Alice", "Bob"), Duration.ofMinutes(30));
+
+        var scrape = metrics.scrape();
+        for (var phase : List.of("fetch", "merge", "gaps", "align", "optional")) {
+            assertThat(scrape).contains("slotify_scheduling_phase_seconds_count{engine=\"interval\",phase=\"%s\"} 1".formatted(phase));
+        }
+    }
+
+    @Test
+    void findAvailableSlotsBatch_fetchesEachScheduleOnceAndMatchesSingleQueries() {
+        var snapshots = new AtomicInteger();
+        var batchLookups = new AtomicInteger();
+        var countingRepository = countingRepository(snapshots, batchLookups);
+        countingRepository.save(new Schedule("Alice", List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0)))));
+        countingRepository.save(new Schedule("Jack", List.of(new TimeSlot(LocalTime.of(12, 0), LocalTime.of(13, 0)))));
+        countingRepository.save(new Schedule("Bob", List.of(new TimeSlot(LocalTime.of(15, 0), LocalTime.of(16, 0)))));
+        var lunch = List.of(new TimeSlot(LocalTime.of(11, 0), LocalTime.of(12, 0)));
+        var queries = List.of(
+                new MeetingQuery(List.of("Alice", "Jack"), List.of("Bob"), Duration.ofMinutes(60)),
+                new MeetingQuery(List.of("Alice", "Bob"), List.of(), Duration.ofMinutes(30), Duration.ofMinutes(10), lunch),
+                new MeetingQuery(List.of("Jack", "Bob"), List.of("Alice"), Duration.ofMinutes(90), null, lunch));
+
+        var results = new DefaultSchedulingService(countingRepository).findAvailableSlots(queries);
+
+        assertThat(snapshots).hasValue(1);
+        assertThat(batchLookups).hasValue(1);
+        assertThat(results).hasSize(3);
+        for (int i = 0; i < queries.size(); i++) {
+            var query = queries.get(i);
+            var expected = new DefaultSchedulingService(repositoryWith(countingRepository), query.blackoutPeriods(), query.bufferBetweenMeetings())
+                    .findAvailableSlots(query.requiredParticipants(), query.optionalParticipants(), query.meetingDuration());
+            assertThat(results.get(i).isSuccess()).isTrue();
+            assertThat(results.get(i).slots()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void findAvailableSlotsBatch_runsOnServiceThreadsUntilClosed() {
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        var recordingRepository = new InMemoryScheduleRepository() {
+            @Override
+            public ScheduleSnapshot snapshot() {
+                var snapshot = super.snapshot();
+                return new ScheduleSnapshot() {
+                    @Override
+                    public long version() {
+                        return snapshot.version();
+                    }
+
+                    @Override
+                    public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+                        var schedules = snapshot.findAllByParticipants(names);
+                        return new AbstractMap<>() {
+                            @Override
+                            public Schedule get(Object name) {
+                                threads.add(Thread.currentThread().getName());
+                                return schedules.get(name);
+                            }
+
+                            @Override
+                            public Set<Entry<String, Schedule>> entrySet() {
+                                return schedules.entrySet();
+                            }
+                        };
+                    }
+
+                    @Override
+                    public Set<String> getAllParticipantNames() {
+                        return snapshot.getAllParticipantNames();
+                    }
+                };
+            }
+        };
+        recordingRepository.save(new Schedule("Alice", List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0)))));
+        recordingRepository.save(new Schedule("Bob", List.of(new TimeSlot(LocalTime.of(15, 0), LocalTime.of(16, 0)))));
+        var queries = new ArrayList<MeetingQuery>();
+        for (int i = 0; i < 20; i++) {
+            queries.add(new MeetingQuery(List.of("Alice", "Bob"), List.of(), Duration.ofMinutes(30 + i)));
+        }
+        var batchService = new DefaultSchedulingService(recordingRepository);
+
+        var results = batchService.findAvailableSlots(queries);
+        batchService.close();
+
+        assertThat(results).hasSize(20).allMatch(MeetingQueryResult::isSuccess);
+        assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("slotify-batch-"));
+        assertThatThrownBy(() -> batchService.findAvailableSlots(queries))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("closed");
+    }
+
+    @Test
+    void findAvailableSlotsByDuration_fetchesOnceAndMatchesSingleDurationQueries() {
+        var snapshots = new AtomicInteger();
+        var batchLookups = new AtomicInteger();
+        var countingRepository = countingRepository(snapshots, batchLookups);
+        countingRepository.save(new Schedule("Alice", List.of(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0)))));
+        countingRepository.save(new Schedule("Jack", List.of(new TimeSlot(LocalTime.of(12, 0), LocalTime.of(13, 30)))));
+        countingRepository.save(new Schedule("Bob", List.of(new TimeSlot(LocalTime.of(15, 0), LocalTime.of(16, 0)))));
+        var lunch = List.of(new TimeSlot(LocalTime.of(11, 0), LocalTime.of(12, 0)));
+        var durations = List.of(Duration.ofMinutes(30), Duration.ofMinutes(60), Duration.ofMinutes(90), Duration.ofMinutes(120));
+        var metrics = new MetricsRegistry();
+
+        var results = new DefaultSchedulingService(countingRepository, lunch, Duration.ofMinutes(10), metrics)
+                .findAvailableSlotsByDuration(List.of("Alice", "Jack"), List.of("Bob"), durations);
+
+        assertThat(snapshots).hasValue(1);
+        assertThat(batchLookups).hasValue(1);
+        assertThat(metrics.scrape())
+                .contains("slotify_scheduling_phase_seconds_count{engine=\"interval\",phase=\"gaps\"} 1")
+                .contains("slotify_scheduling_phase_seconds_count{engine=\"interval\",phase=\"align\"} 4");
+        assertThat(results.keySet()).containsExactlyElementsOf(durations);
+        var single = new DefaultSchedulingService(repositoryWith(countingRepository), lunch, Duration.ofMinutes(10));
+        for (var duration : durations) {
+            assertThat(results.get(duration)).as("%s", duration)
+                    .isEqualTo(single.findAvailableSlots(List.of("Alice", "Jack"), List.of("Bob"), duration));
+        }
+    }
+
+    @Test
+    void findAvailableSlotsByDuration_withEmptyDurations_throwsException() {
+        assertThatThrownBy(() -> service.findAvailableSlotsByDuration(List.of("Alice", "Bob"), List.of(), List.of()))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("duration");
+    }
+
+    @Test
+    void findAvailableSlotsBatch_withInvalidItems_reportsErrorsPerItem() {
+        repository.save(new Schedule("Alice", List.of()));
+        repository.save(new Schedule("Jack", List.of()));
+
+        var results = service.findAvailableSlots(List.of(
+                new MeetingQuery(List.of("Alice", "Unknown"), List.of(), Duration.ofMinutes(60)),
+                new MeetingQuery(List.of("Alice", "Jack"), List.of(), Duration.ofMinutes(60)),
+                new MeetingQuery(List.of("Alice"), List.of(), Duration.ofMinutes(60)),
+                new MeetingQuery(List.of("Alice", "Jack"), List.of(), Duration.ZERO),
+                new MeetingQuery(List.of("Alice", "Jack"), List.of(), Duration.ofMinutes(60), Duration.ofMinutes(-5), List.of())));
+
+        assertThat(results).extracting(r -> r.isSuccess()).containsExactly(false, true, false, false, false);
+        assertThat(results.get(0).error().getErrorType()).isEqualTo(SchedulerException.ErrorType.PARTICIPANT_NOT_FOUND);
+        assertThat(results.get(1).slots()).hasSize(12);
+        assertThat(results.get(2).error().getErrorType()).isEqualTo(SchedulerException.ErrorType.INVALID_ARGUMENT);
+        assertThat(results.get(3).error().getMessage()).contains("duration");
+        assertThat(results.get(4).error().getMessage()).contains("Buffer");
+    }
+
+    private static InMemoryScheduleRepository repositoryWith(InMemoryScheduleRepository source) {
+        var copy = new InMemoryScheduleRepository();
+        copy.replaceAll(source.snapshot().findAllByParticipants(source.getAllParticipantNames()));
+        return copy;
+    }
+
+    private static InMemoryScheduleRepository countingRepository(AtomicInteger snapshots, AtomicInteger batchLookups) {
+        return new InMemoryScheduleRepository() {
+            @Override
+            public ScheduleSnapshot snapshot() {
+                snapshots.incrementAndGet();
+                var snapshot = super.snapshot();
+                return new ScheduleSnapshot() {
+                    @Override
+                    public long version() {
+                        return snapshot.version();
+                    }
+
+                    @Override
+                    public Map<String, Schedule> findAllByParticipants(Collection<String> names) {
+                        batchLookups.incrementAndGet();
+                        return snapshot.findAllByParticipants(names);
+                    }
+
+                    @Override
+                    public Set<String> getAllParticipantNames() {
+                        return snapshot.getAllParticipantNames();
+                    }
+                };
+            }
+        };
+    }
 }
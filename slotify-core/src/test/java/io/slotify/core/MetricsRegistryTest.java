@@ -0,0 +1,119 @@
+package io.slotify.core;
+
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.metrics.MetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsRegistryTest {
+
+    private MetricsRegistry metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsRegistry();
+    }
+
+    @Test
+    void scrape_withCounter_writesHelpTypeAndValue() {
+        var counter = metrics.counter("uploads_total", "Uploads received");
+        counter.inc();
+        counter.inc(4);
+
+        assertThat(metrics.scrape()).isEqualTo("""
+                # HELP uploads_total Uploads received
+                # TYPE uploads_total counter
+                uploads_total 5
+                """);
+    }
+
+    @Test
+    void scrape_withHistogram_writesCumulativeBuckets() {
+        var histogram = metrics.histogram("latency_seconds", "Latency", new double[]{0.1, 1}, "path");
+        histogram.labels("/a").observe(0.05);
+        histogram.labels("/a").observe(0.5);
+        histogram.labels("/a").observe(3);
+
+        assertThat(metrics.scrape()).isEqualTo("""
+                # HELP latency_seconds Latency
+                # TYPE latency_seconds histogram
+                latency_seconds_bucket{path="/a",le="0.1"} 1
+                latency_seconds_bucket{path="/a",le="1"} 2
+                latency_seconds_bucket{path="/a",le="+Inf"} 3
+                latency_seconds_sum{path="/a"} 3.55
+                latency_seconds_count{path="/a"} 3
+                """);
+    }
+
+    @Test
+    void scrape_withGauge_readsSupplierOnEachScrape() {
+        var value = new int[]{1};
+        metrics.gauge("connections", "Open connections", () -> value[0]);
+        value[0] = 7;
+
+        assertThat(metrics.scrape()).contains("connections 7\n");
+    }
+
+    @Test
+    void scrape_withCounterSupplier_readsTotalOnEachScrape() {
+        var value = new long[]{1};
+        metrics.counter("evictions_total", "Evictions", () -> value[0]);
+        value[0] = 12;
+
+        assertThat(metrics.scrape()).isEqualTo("""
+                # HELP evictions_total Evictions
+                # TYPE evictions_total counter
+                evictions_total 12
+                """);
+        assertThatThrownBy(() -> metrics.counter("evictions_total", "Evictions").inc())
+                .isInstanceOf(SchedulerException.class);
+    }
+
+    @Test
+    void scrape_escapesLabelValues() {
+        metrics.counter("requests_total", "Requests", "name").labels("a\"b\\c\nd").inc();
+
+        assertThat(metrics.scrape()).contains("requests_total{name=\"a\\\"b\\\\c\\nd\"} 1\n");
+    }
+
+    @Test
+    void scrape_ordersMetricsAndChildren() {
+        var counter = metrics.counter("b_total", "B", "key");
+        counter.labels("y").inc();
+        counter.labels("x").inc();
+        metrics.counter("a_total", "A").inc();
+
+        var scrape = metrics.scrape();
+        assertThat(scrape.indexOf("a_total 1")).isLessThan(scrape.indexOf("b_total{key=\"x\"}"));
+        assertThat(scrape.indexOf("b_total{key=\"x\"}")).isLessThan(scrape.indexOf("b_total{key=\"y\"}"));
+    }
+
+    @Test
+    void counter_registeredTwice_returnsSameMetric() {
+        metrics.counter("events_total", "Events").inc();
+        metrics.counter("events_total", "Events").inc();
+
+        assertThat(metrics.scrape()).contains("events_total 2\n");
+    }
+
+    @Test
+    void histogram_withNameOfExistingCounter_throwsException() {
+        metrics.counter("events_total", "Events");
+
+        assertThatThrownBy(() -> metrics.histogram("events_total", "Events"))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("events_total");
+    }
+
+    @Test
+    void labels_withWrongNumberOfValues_throwsException() {
+        var counter = metrics.counter("events_total", "Events", "kind");
+
+        assertThatThrownBy(() -> counter.labels("a", "b"))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("expects 1 label values");
+    }
+}
@@ -0,0 +1,335 @@
+package io.slotify.core;
+
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.RedisScheduleRepository;
+import io.slotify.core.repository.ScheduleCodec;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisScheduleRepositoryTest {
+
+    private static RedisServer server;
+    private static JedisPool pool;
+
+    private final ScheduleCodec codec = new ScheduleCodec();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (var socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        var config = new JedisPoolConfig();
+        config.setMaxTotal(64);
+        pool = new JedisPool(config, "localhost", port);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        pool.close();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (var jedis = pool.getResource()) {
+            jedis.flushAll();
+        }
+    }
+
+    @Test
+    void save_thenRead_returnsScheduleAndIndexesName() {
+        var repository = new RedisScheduleRepository(pool);
+        var initialVersion = repository.dataVersion();
+
+        repository.save(schedule("Bob", 9));
+        repository.save(schedule("Alice", 10));
+        repository.save(schedule("Bob", 11));
+
+        assertThat(repository.findByParticipant("Bob")).contains(schedule("Bob", 11));
+        assertThat(repository.findAllByParticipants(List.of("Alice", "Bob", "Nobody")))
+                .isEqualTo(Map.of("Alice", schedule("Alice", 10), "Bob", schedule("Bob", 11)));
+        assertThat(repository.getAllParticipantNames()).containsExactly("Alice", "Bob");
+        assertThat(repository.countParticipants()).isEqualTo(2);
+        assertThat(repository.dataVersion()).isEqualTo(initialVersion + 3);
+    }
+
+    @Test
+    void dataVersion_afterRedisLosesItsData_neverRepeatsAnEarlierVersion() {
+        var repository = new RedisScheduleRepository(pool);
+        repository.replaceAll(schedules("Alice", "Bob"));
+        repository.save(schedule("Carol", 9));
+        var before = repository.dataVersion();
+
+        try (var jedis = pool.getResource()) {
+            jedis.flushAll();
+        }
+        repository.save(schedule("Dave", 10));
+
+        assertThat(repository.dataVersion()).isGreaterThan(before);
+        assertThat(repository.snapshot().version()).isEqualTo(repository.dataVersion());
+    }
+
+    @Test
+    void findAllByParticipants_afterScriptCacheFlush_sendsScriptBodyOnceThenUsesSha() {
+        var repository = new RedisScheduleRepository(pool);
+        repository.replaceAll(schedules("Alice", "Bob"));
+
+        String stats;
+        try (var jedis = pool.getResource()) {
+            jedis.scriptFlush();
+            jedis.configResetStat();
+            for (int i = 0; i < 3; i++) {
+                assertThat(repository.findAllByParticipants(List.of("Alice", "Bob"))).isEqualTo(schedules("Alice", "Bob"));
+            }
+            stats = jedis.info("commandstats");
+        }
+
+        assertThat(stats).contains("cmdstat_eval:calls=1,").contains("cmdstat_evalsha:calls=3,");
+    }
+
+    @Test
+    void findParticipantNamesByPrefix_pagesThroughIndexInOrder() {
+        var repository = new RedisScheduleRepository(pool);
+        repository.replaceAll(schedules("Al", "Alice", "Alicia", "Alvin", "Bob", "alice"));
+
+        assertThat(repository.findParticipantNamesByPrefix("Al", 2)).containsExactly("Al", "Alice");
+        assertThat(repository.findParticipantNamesByPrefix("Al", "Alice", 2)).containsExactly("Alicia", "Alvin");
+        assertThat(repository.findParticipantNamesByPrefix("Al", "Alvin", 2)).isEmpty();
+        assertThat(repository.findParticipantNamesByPrefix("Al", "A", 2)).containsExactly("Al", "Alice");
+        assertThat(repository.findParticipantNamesByPrefix("", "Bob", 5)).containsExactly("alice");
+        assertThat(repository.findParticipantNamesByPrefix("Al", 0)).isEmpty();
+    }
+
+    @Test
+    void replaceAll_keepsOpenSnapshotOnPreviousGeneration() {
+        var repository = new RedisScheduleRepository(pool);
+        repository.replaceAll(schedules("Alice", "Bob"));
+        var before = repository.snapshot();
+        var retired = generation();
+
+        repository.replaceAll(schedules("Carol"));
+
+        assertThat(before.getAllParticipantNames()).containsExactlyInAnyOrder("Alice", "Bob");
+        assertThat(before.findAllByParticipants(List.of("Alice", "Carol"))).containsOnlyKeys("Alice");
+        assertThat(repository.getAllParticipantNames()).containsExactly("Carol");
+        assertThat(repository.findAllByParticipants(List.of("Alice", "Carol"))).containsOnlyKeys("Carol");
+        try (var jedis = pool.getResource()) {
+            assertThat(jedis.ttl("slotify:schedules:" + retired)).isPositive();
+            assertThat(jedis.ttl("slotify:names:" + retired)).isPositive();
+            assertThat(jedis.ttl("slotify:schedules:" + generation())).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void replaceAll_isNeverObservedHalfApplied() throws Exception {
+        var repository = new RedisScheduleRepository(pool);
+        var first = schedules(IntStream.range(0, 1200).mapToObj(i -> "A" + i).toArray(String[]::new));
+        var second = schedules(IntStream.range(0, 700).mapToObj(i -> "B" + i).toArray(String[]::new));
+        repository.replaceAll(first);
+
+        var done = new AtomicBoolean();
+        var observed = ConcurrentHashMap.<Set<String>>newKeySet();
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var readers = IntStream.range(0, 3).mapToObj(i -> executor.submit(() -> {
+                while (!done.get()) {
+                    observed.add(repository.getAllParticipantNames());
+                }
+                return null;
+            })).toList();
+            for (int i = 0; i < 10; i++) {
+                repository.replaceAll(i % 2 == 0 ? second : first);
+            }
+            done.set(true);
+            for (var reader : readers) {
+                reader.get();
+            }
+        }
+
+        assertThat(observed).isNotEmpty().allMatch(names -> names.equals(first.keySet()) || names.equals(second.keySet()));
+    }
+
+    @Test
+    void snapshotFindAllByParticipants_withConcurrentBatches_matchesSerialRead() {
+        var stored = schedules(IntStream.range(0, 1500).mapToObj(i -> "P" + i).toArray(String[]::new));
+        new RedisScheduleRepository(pool).replaceAll(stored);
+        var names = new ArrayList<String>(stored.keySet());
+        IntStream.range(0, 200).forEach(i -> names.add("Missing" + i));
+        names.addAll(names.subList(0, 300));
+
+        var serial = new RedisScheduleRepository(pool, false).snapshot().findAllByParticipants(names);
+        var concurrent = new RedisScheduleRepository(pool, true).snapshot().findAllByParticipants(names);
+
+        assertThat(names).hasSizeGreaterThan(3 * 500);
+        assertThat(serial).isEqualTo(stored);
+        assertThat(concurrent).isEqualTo(serial);
+        assertThat(concurrent).allSatisfy((name, schedule) -> assertThat(schedule.participantName()).isEqualTo(name));
+    }
+
+    @Test
+    void snapshot_pagesNamesAndCountsFromItsOwnGeneration() {
+        var repository = new RedisScheduleRepository(pool);
+        repository.replaceAll(schedules("Al", "Alice", "Alicia", "Bob"));
+        var snapshot = repository.snapshot();
+
+        repository.replaceAll(schedules("Alex", "Carol"));
+        repository.save(schedule("Dave", 9));
+
+        assertThat(snapshot.countParticipants()).isEqualTo(4);
+        assertThat(snapshot.findParticipantNamesByPrefix("Al", null, 2)).containsExactly("Al", "Alice");
+        assertThat(snapshot.findParticipantNamesByPrefix("Al", "Alice", 2)).containsExactly("Alicia");
+        assertThat(snapshot.findAllByParticipants(List.of("Alice", "Alex"))).containsOnlyKeys("Alice");
+        assertThat(repository.snapshot().version()).isGreaterThan(snapshot.version());
+        assertThat(repository.snapshot().version()).isEqualTo(repository.dataVersion());
+        assertThat(repository.snapshot().findParticipantNamesByPrefix("", null, 10)).containsExactly("Alex", "Carol", "Dave");
+    }
+
+    @Test
+    void getAllParticipantNames_withGenerationWrittenBeforeNameIndex_backfillsIndex() {
+        try (var jedis = pool.getResource()) {
+            jedis.set("slotify:generation", "7");
+            jedis.hset("slotify:schedules:7".getBytes(), "Alice".getBytes(), codec.encode(schedule("Alice", 9)));
+            jedis.hset("slotify:schedules:7".getBytes(), "Bob".getBytes(), codec.encode(schedule("Bob", 10)));
+        }
+
+        var repository = new RedisScheduleRepository(pool);
+
+        assertThat(repository.getAllParticipantNames()).containsExactly("Alice", "Bob");
+        assertThat(repository.countParticipants()).isEqualTo(2);
+        assertThat(repository.findParticipantNamesByPrefix("B", 10)).containsExactly("Bob");
+        assertThat(repository.findByParticipant("Alice")).contains(schedule("Alice", 9));
+    }
+
+    @Test
+    void migration_withLegacyKeys_movesJsonAndBinarySchedulesIntoGeneration() {
+        try (var jedis = pool.getResource()) {
+            jedis.set("schedule:Alice", "{\"participantName\":\"Alice\",\"busySlots\":[{\"start\":\"09:00\",\"end\":\"10:00\"}]}");
+            jedis.set("schedule:Bob".getBytes(), codec.encode(schedule("Bob", 12)));
+            jedis.set("unrelated", "kept");
+        }
+
+        var repository = new RedisScheduleRepository(pool);
+
+        assertThat(repository.findAllByParticipants(List.of("Alice", "Bob")))
+                .isEqualTo(Map.of("Alice", schedule("Alice", 9), "Bob", schedule("Bob", 12)));
+        assertThat(repository.getAllParticipantNames()).containsExactly("Alice", "Bob");
+        try (var jedis = pool.getResource()) {
+            assertThat(jedis.keys("schedule:*")).isEmpty();
+            assertThat(jedis.get("unrelated")).isEqualTo("kept");
+        }
+    }
+
+    @Test
+    void migration_byConcurrentReplicas_keepsEveryLegacySchedule() throws Exception {
+        var expected = new HashMap<String, Schedule>();
+        try (var jedis = pool.getResource()) {
+            for (int i = 0; i < 3000; i++) {
+                var schedule = schedule("P" + i, 6 + i % 12);
+                expected.put(schedule.participantName(), schedule);
+                jedis.set(("schedule:" + schedule.participantName()).getBytes(), codec.encode(schedule));
+            }
+        }
+
+        // Replicas start a few milliseconds apart, so later ones scan while earlier ones are already unlinking.
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<Integer>>();
+        try (var executor = Executors.newFixedThreadPool(16)) {
+            for (int replica = 0; replica < 16; replica++) {
+                var repository = new RedisScheduleRepository(pool);
+                var delay = replica * 25L;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    Thread.sleep(delay);
+                    return repository.countParticipants();
+                }));
+            }
+            start.countDown();
+            for (var result : results) {
+                assertThat(result.get()).isEqualTo(3000);
+            }
+        }
+
+        var repository = new RedisScheduleRepository(pool);
+        assertThat(repository.findAllByParticipants(expected.keySet())).isEqualTo(expected);
+        try (var jedis = pool.getResource()) {
+            assertThat(jedis.keys("schedule:*")).isEmpty();
+        }
+    }
+
+    @Test
+    void migration_whenLockExpiresMidway_leavesSwapToTheNewHolder() throws Exception {
+        var expected = new HashMap<String, Schedule>();
+        try (var jedis = pool.getResource(); var pipeline = jedis.pipelined()) {
+            for (int i = 0; i < 50_000; i++) {
+                var schedule = schedule("P" + i, 6 + i % 12);
+                expected.put(schedule.participantName(), schedule);
+                pipeline.set(("schedule:" + schedule.participantName()).getBytes(), codec.encode(schedule));
+            }
+            pipeline.sync();
+        }
+
+        try (var executor = Executors.newSingleThreadExecutor(); var jedis = pool.getResource()) {
+            var migration = executor.submit(() -> new RedisScheduleRepository(pool).countParticipants());
+            while (!jedis.exists("slotify:migration-lock")) {
+                Thread.onSpinWait();
+            }
+            // The lock expires under the migrating replica and another replica takes it over.
+            jedis.del("slotify:migration-lock");
+            jedis.set("slotify:migration-lock", "other-replica");
+
+            Thread.sleep(1000);
+            var generationWhileLocked = generation();
+            var legacyKeysWhileLocked = jedis.keys("schedule:*").size();
+            jedis.del("slotify:migration-lock");
+
+            assertThat(migration.get()).isEqualTo(50_000);
+            assertThat(generationWhileLocked).isNull();
+            assertThat(legacyKeysWhileLocked).isEqualTo(50_000);
+        }
+
+        var repository = new RedisScheduleRepository(pool);
+        assertThat(repository.findAllByParticipants(expected.keySet())).isEqualTo(expected);
+    }
+
+    private static String generation() {
+        try (var jedis = pool.getResource()) {
+            return jedis.get("slotify:generation");
+        }
+    }
+
+    private static Map<String, Schedule> schedules(String... names) {
+        return Stream.of(names).collect(Collectors.toMap(Function.identity(), name -> schedule(name, 6 + name.length() % 12)));
+    }
+
+    private static Schedule schedule(String name, int hour) {
+        return new Schedule(name, List.of(new TimeSlot(LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0))));
+    }
+}
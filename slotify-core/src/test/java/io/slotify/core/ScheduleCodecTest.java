@@ -0,0 +1,80 @@
+package io.slotify.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.model.Schedule;
+import io.slotify.core.model.TimeSlot;
+import io.slotify.core.repository.ScheduleCodec;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleCodecTest {
+
+    private final ScheduleCodec codec = new ScheduleCodec();
+
+    private final Schedule schedule = new Schedule("Alice", List.of(
+            new TimeSlot(LocalTime.of(0, 0), LocalTime.of(0, 30)),
+            new TimeSlot(LocalTime.of(8, 0), LocalTime.of(9, 30)),
+            new TimeSlot(LocalTime.of(13, 0), LocalTime.of(14, 0)),
+            new TimeSlot(LocalTime.of(23, 0), LocalTime.MAX)
+    ));
+
+    @Test
+    void encode_thenDecode_returnsSameSchedule() {
+        var bytes = codec.encode(schedule);
+
+        assertThat(codec.decode("Alice", bytes)).isEqualTo(schedule);
+    }
+
+    @Test
+    void encode_isSmallerThanJson() throws Exception {
+        var json = jsonMapper().writeValueAsBytes(schedule);
+
+        assertThat(codec.encode(schedule).length).isLessThan(json.length / 5);
+    }
+
+    @Test
+    void encode_withNoBusySlots_roundTrips() {
+        var empty = new Schedule("Jack", List.of());
+
+        assertThat(codec.decode("Jack", codec.encode(empty))).isEqualTo(empty);
+    }
+
+    @Test
+    void decode_withLegacyJson_fallsBackToJackson() throws Exception {
+        var json = jsonMapper().writeValueAsBytes(schedule);
+
+        assertThat(codec.decode("Alice", json)).isEqualTo(schedule);
+    }
+
+    @Test
+    void decode_withTruncatedData_throwsRepositoryError() {
+        var bytes = codec.encode(schedule);
+
+        assertThatThrownBy(() -> codec.decode("Alice", Arrays.copyOf(bytes, bytes.length - 1)))
+                .isInstanceOf(SchedulerException.class)
+                .extracting(e -> ((SchedulerException) e).getErrorType())
+                .isEqualTo(SchedulerException.ErrorType.REPOSITORY_ERROR);
+    }
+
+    @Test
+    void decode_withUnknownVersion_throwsRepositoryError() {
+        var bytes = codec.encode(schedule);
+        bytes[1] = 99;
+
+        assertThatThrownBy(() -> codec.decode("Alice", bytes))
+                .isInstanceOf(SchedulerException.class)
+                .hasMessageContaining("unsupported version");
+    }
+
+    private ObjectMapper jsonMapper() {
+        return new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+}
@@ -1,5 +1,8 @@
 package io.slotify.core;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.slotify.core.exception.SchedulerException;
 import io.slotify.core.model.CalendarEvent;
 import io.slotify.core.model.Schedule;
 import io.slotify.core.model.TimeSlot;
@@ -9,6 +12,7 @@ import java.time.LocalTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ScheduleTest {
 
@@ -45,4 +49,59 @@ class ScheduleTest {
         var testSlot = new TimeSlot(LocalTime.of(10, 0), LocalTime.of(11, 0));
         assertThat(schedule.isBusyDuring(testSlot)).isFalse();
     }
+
+    @Test
+    void constructor_withUnsortedOverlappingSlots_storesMergedSlots() {
+        var schedule = new Schedule("Alice", List.of(
+                new TimeSlot(LocalTime.of(14, 0), LocalTime.of(15, 0)),
+                new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                new TimeSlot(LocalTime.of(9, 30), LocalTime.of(11, 0))
+        ));
+
+        assertThat(schedule.busySlots()).containsExactly(
+                new TimeSlot(LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                new TimeSlot(LocalTime.of(14, 0), LocalTime.of(15, 0))
+        );
+    }
+
+    @Test
+    void constructor_withSubMinuteSlot_throwsException() {
+        var slots = List.of(new TimeSlot(LocalTime.of(9, 0, 30), LocalTime.of(10, 0)));
+
+        assertThatThrownBy(() -> new Schedule("Alice", slots))
+                .isInstanceOf(SchedulerException.class)
+                .extracting(e -> ((SchedulerException) e).getErrorType())
+                .isEqualTo(SchedulerException.ErrorType.INVALID_TIME_RANGE);
+    }
+
+    @Test
+    void isBusyDuring_withManySlots_matchesLinearScan() {
+        var slots = List.of(
+                new TimeSlot(LocalTime.of(7, 0), LocalTime.of(7, 30)),
+                new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                new TimeSlot(LocalTime.of(12, 15), LocalTime.of(12, 45)),
+                new TimeSlot(LocalTime.of(18, 0), LocalTime.of(19, 0))
+        );
+        var schedule = new Schedule("Alice", slots);
+
+        for (int start = 6 * 60; start < 20 * 60; start += 5) {
+            var candidate = TimeSlot.ofMinutes(start, start + 30);
+            var expected = slots.stream().anyMatch(slot -> slot.overlaps(candidate));
+            assertThat(schedule.isBusyDuring(candidate)).as(candidate.toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void jsonRoundTrip_preservesSchedule() throws Exception {
+        var mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        var schedule = new Schedule("Alice", List.of(
+                new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                new TimeSlot(LocalTime.of(13, 30), LocalTime.of(14, 0))
+        ));
+
+        var json = mapper.writeValueAsString(schedule);
+
+        assertThat(mapper.readValue(json, Schedule.class)).isEqualTo(schedule);
+        assertThat(json).contains("\"participantName\":\"Alice\"", "\"busySlots\"");
+    }
 }
@@ -34,11 +34,39 @@ class Config {
         return Integer.parseInt(getConfig("REDIS_PORT", "redis.port", "6379"));
     }
 
+    int redisPoolSize() {
+        return Integer.parseInt(getConfig("REDIS_POOL_SIZE", "redis.pool.size", "64"));
+    }
+
+    boolean virtualThreads() {
+        return Boolean.parseBoolean(getConfig("VIRTUAL_THREADS", "virtual.threads", "false"));
+    }
+
+    int scheduleCacheSize() {
+        return Integer.parseInt(getConfig("SCHEDULE_CACHE_SIZE", "schedule.cache.size", "10000"));
+    }
+
+    int bitmapIndexSize() {
+        return Integer.parseInt(getConfig("BITMAP_INDEX_SIZE", "bitmap.index.size", "100000"));
+    }
+
+    int queryCacheSize() {
+        return Integer.parseInt(getConfig("QUERY_CACHE_SIZE", "query.cache.size", "1000"));
+    }
+
+    boolean requestCoalescing() {
+        return Boolean.parseBoolean(getConfig("REQUEST_COALESCING", "request.coalescing", "true"));
+    }
+
     Duration bufferBetweenMeetings() {
         var minutes = Integer.parseInt(getConfig("BUFFER_MINUTES", "buffer.minutes", "0"));
         return minutes > 0 ? Duration.ofMinutes(minutes) : null;
     }
 
+    String schedulingEngine() {
+        return getConfig("SCHEDULING_ENGINE", "scheduling.engine", "bitset");
+    }
+
     private String getConfig(String envVar, String property, String defaultValue) {
         var envValue = System.getenv(envVar);
         if (envValue != null && !envValue.isBlank()) {
@@ -2,40 +2,68 @@ package io.slotify.web;
 
 import io.slotify.core.model.Constants;
 import io.slotify.core.exception.SchedulerException;
+import io.slotify.core.metrics.Counter;
+import io.slotify.core.metrics.Histogram;
+import io.slotify.core.metrics.MetricsRegistry;
 import io.slotify.core.model.AvailableSlot;
+import io.slotify.core.model.ConflictSlot;
+import io.slotify.core.model.MeetingQuery;
+import io.slotify.core.model.MeetingQueryResult;
+import io.slotify.core.model.QuorumSlot;
+import io.slotify.core.model.Schedule;
 import io.slotify.core.model.TimeSlot;
 import io.slotify.core.parser.CsvCalendarParser;
+import io.slotify.core.repository.CachingScheduleRepository;
 import io.slotify.core.repository.InMemoryScheduleRepository;
+import io.slotify.core.repository.RedisScheduleChangeSubscriber;
 import io.slotify.core.repository.RedisScheduleRepository;
 import io.slotify.core.repository.ScheduleRepository;
+import io.slotify.core.repository.ScheduleSnapshot;
+import io.slotify.core.service.BitsetSchedulingService;
+import io.slotify.core.service.CachingSchedulingService;
+import io.slotify.core.service.CoalescingSchedulingService;
 import io.slotify.core.service.DefaultSchedulingService;
+import io.slotify.core.service.ScheduleBitmapIndex;
+import io.slotify.core.service.SchedulingRequestCoalescer;
+import io.slotify.core.service.SchedulingResultCache;
 import io.slotify.core.service.SchedulingService;
 import io.javalin.Javalin;
+import io.javalin.config.SizeUnit;
 import io.javalin.http.Context;
+import io.javalin.http.HandlerType;
 import io.javalin.http.UploadedFile;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Supplier;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class WebApp {
 
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final int MAX_DURATION_MINUTES = 120; // 2 hours
     private static final int MAX_PARTICIPANTS = 100;
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final int MAX_POOL_SIZE = 500;
+    private static final int SUGGESTION_COUNT = 3;
+    private static final int MAX_DURATION_OPTIONS = 8;
+    private static final int STATE_PAGE_SIZE = 200;
+    private static final int MAX_STATE_PAGE_SIZE = 1000;
     private static final int MIN_BUFFER_MINUTES = 5;
     private static final int MAX_BUFFER_MINUTES = 15;
     private static final int MAX_BLACKOUTS = 10;
@@ -46,24 +74,83 @@ public class WebApp {
     private final CsvCalendarParser parser = new CsvCalendarParser();
     private final SchedulingService service;
     private final JedisPool jedisPool;
-    private final ReadWriteLock dataLock = new ReentrantReadWriteLock();
+    private final RedisScheduleChangeSubscriber changeSubscriber;
+    private final boolean bitsetEngine;
+    private final ScheduleBitmapIndex bitmapIndex;
+    private final SchedulingResultCache resultCache;
+    private final SchedulingRequestCoalescer coalescer;
+    private final String stateTagPrefix;
+    private final AtomicReference<CachedState> cachedState = new AtomicReference<>();
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final Histogram requestSeconds = metrics.histogram("slotify_http_request_duration_seconds",
+            "HTTP request latency by endpoint", "method", "path", "status");
+    private final Counter uploadBytes = metrics.counter("slotify_upload_bytes_total", "Bytes parsed from uploaded calendars");
+    private final Counter uploadEvents = metrics.counter("slotify_upload_events_total", "Events parsed from uploaded calendars");
+    private final Histogram uploadParseSeconds = metrics.histogram("slotify_upload_parse_seconds", "Time spent parsing an uploaded calendar");
 
     public WebApp() {
         var config = Config.get();
         var redisHost = config.redisHost();
         if (redisHost != null) {
-            this.jedisPool = new JedisPool(redisHost, config.redisPort());
-            this.repository = new RedisScheduleRepository(jedisPool);
+            var poolConfig = new JedisPoolConfig();
+            poolConfig.setMaxTotal(config.redisPoolSize());
+            poolConfig.setMaxIdle(config.redisPoolSize());
+            this.jedisPool = new JedisPool(poolConfig, redisHost, config.redisPort());
+            var redisRepository = new RedisScheduleRepository(jedisPool, config.virtualThreads(), metrics);
+            var pool = metrics.gauge("slotify_redis_pool_connections", "Redis pool connections by state", "state");
+            pool.register(jedisPool::getNumActive, "active");
+            pool.register(jedisPool::getNumIdle, "idle");
+            pool.register(jedisPool::getNumWaiters, "waiting");
+            if (config.scheduleCacheSize() > 0) {
+                var cachingRepository = new CachingScheduleRepository(redisRepository, config.scheduleCacheSize());
+                this.changeSubscriber = new RedisScheduleChangeSubscriber(jedisPool, cachingRepository);
+                this.changeSubscriber.start();
+                this.repository = cachingRepository;
+            } else {
+                this.changeSubscriber = null;
+                this.repository = redisRepository;
+            }
         } else {
             this.jedisPool = null;
+            this.changeSubscriber = null;
             this.repository = new InMemoryScheduleRepository();
         }
 
-        var buffer = config.bufferBetweenMeetings();
-        this.service = new DefaultSchedulingService(repository, List.of(), buffer);
+        this.stateTagPrefix = jedisPool != null ? "redis" : UUID.randomUUID().toString().substring(0, 8);
+        this.bitsetEngine = !"interval".equalsIgnoreCase(config.schedulingEngine());
+        this.bitmapIndex = new ScheduleBitmapIndex(config.bitmapIndexSize());
+        this.resultCache = config.queryCacheSize() > 0 ? new SchedulingResultCache(config.queryCacheSize()) : null;
+        if (resultCache != null) {
+            metrics.gauge("slotify_query_cache_hit_ratio", "Share of slot searches answered from the result cache",
+                    () -> resultCache.stats().hitRatio());
+            metrics.counter("slotify_query_cache_evictions_total", "Result cache entries evicted to stay within the size limit",
+                    () -> resultCache.stats().evictions());
+            metrics.gauge("slotify_query_cache_entries", "Result cache entries currently held", () -> resultCache.stats().size());
+        }
+        this.coalescer = config.requestCoalescing() ? new SchedulingRequestCoalescer() : null;
+        if (coalescer != null) {
+            metrics.counter("slotify_coalesced_searches_total", "Slot searches that joined an identical in-flight search",
+                    () -> coalescer.stats().coalesced());
+            metrics.gauge("slotify_inflight_searches", "Distinct slot searches currently running", () -> coalescer.stats().inFlight());
+        }
+        this.service = createService(List.of(), config.bufferBetweenMeetings());
+    }
+
+    private SchedulingService createService(List<TimeSlot> blackouts, Duration buffer) {
+        SchedulingService engine = bitsetEngine
+                ? new BitsetSchedulingService(repository, blackouts, buffer, bitmapIndex, metrics)
+                : new DefaultSchedulingService(repository, blackouts, buffer, metrics);
+        if (coalescer != null) {
+            engine = new CoalescingSchedulingService(engine, repository, coalescer, blackouts, buffer);
+        }
+        return resultCache != null ? new CachingSchedulingService(engine, repository, resultCache, blackouts, buffer) : engine;
     }
 
     public void shutdown() {
+        service.close();
+        if (changeSubscriber != null) {
+            changeSubscriber.close();
+        }
         if (jedisPool != null) {
             jedisPool.close();
         }
@@ -73,7 +160,10 @@ public class WebApp {
         var app = new WebApp();
         Runtime.getRuntime().addShutdownHook(new Thread(app::shutdown));
         Javalin.create(config -> {
+                    config.useVirtualThreads = Config.get().virtualThreads();
                     config.staticFiles.add("/static");
+                    config.jetty.multipartConfig.maxInMemoryFileSize((int) MAX_FILE_SIZE, SizeUnit.BYTES);
+                    config.requestLogger.http(app::recordRequest);
                 })
                 .exception(ValidationException.class, (e, ctx) ->
                         ctx.status(400).json(Map.of("error", e.getMessage())))
@@ -81,111 +171,195 @@ public class WebApp {
                         ctx.status(400).json(Map.of("error", e.getMessage())))
                 .exception(Exception.class, (e, ctx) ->
                         ctx.status(500).json(Map.of("error", "Internal server error")))
+                .get("/metrics", app::metrics)
                 .get("/api/state", app::getState)
                 .delete("/api/state", app::clearState)
+                .get("/api/participants", app::participants)
                 .post("/api/upload", app::uploadWithSSE)
                 .post("/api/availability", app::availability)
                 .post("/api/meeting-request", app::meetingRequest)
+                .post("/api/meeting-request/batch", app::meetingRequestBatch)
+                .post("/api/meeting-request/durations", app::meetingRequestDurations)
+                .post("/api/quorum-request", app::quorumRequest)
                 .start(8080);
     }
 
-    private void getState(Context ctx) {
-        dataLock.readLock().lock();
-        try {
-            var participants = repository.getAllParticipantNames().stream().sorted().toList();
-            if (participants.isEmpty()) {
-                ctx.json(Map.of("hasData", false));
-                return;
+    private void recordRequest(Context ctx, float executionTimeMs) {
+        var path = ctx.handlerType() == HandlerType.BEFORE ? "static" : ctx.endpointHandlerPath();
+        requestSeconds.labels(ctx.method().name(), path, Integer.toString(ctx.statusCode()))
+                .observe(executionTimeMs / 1000.0);
+    }
+
+    private void metrics(Context ctx) {
+        ctx.contentType(MetricsRegistry.CONTENT_TYPE).result(metrics.scrape());
+    }
+
+    private void getState(Context ctx) throws IOException {
+        var prefix = ctx.queryParamAsClass("prefix", String.class).getOrDefault("");
+        var cursor = ctx.queryParam("cursor");
+        var limit = ctx.queryParamAsClass("limit", Integer.class).getOrDefault(STATE_PAGE_SIZE);
+        if (prefix.length() > Constants.MAX_NAME_LENGTH || (cursor != null && cursor.length() > Constants.MAX_NAME_LENGTH)) {
+            throw new ValidationException("Prefix or cursor too long");
+        }
+        if (limit < 1 || limit > MAX_STATE_PAGE_SIZE) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_STATE_PAGE_SIZE);
+        }
+
+        // Version, names, total and schedules all come from one snapshot, so a page never mixes generations.
+        var snapshot = repository.snapshot();
+        var version = snapshot.version();
+        var etag = "\"" + stateTagPrefix + "-" + version + "\"";
+        ctx.header("ETag", etag);
+        ctx.header("Cache-Control", "no-cache");
+        if (matchesETag(ctx.header("If-None-Match"), etag)) {
+            ctx.status(304);
+            return;
+        }
+
+        ctx.contentType("application/json");
+        if (cursor != null || !prefix.isEmpty() || limit != STATE_PAGE_SIZE) {
+            writeStatePage(ctx.outputStream(), snapshot, prefix, cursor, limit);
+            return;
+        }
+        var cached = cachedState.get();
+        if (cached == null || cached.version() != version) {
+            var json = new ByteArrayOutputStream();
+            writeStatePage(json, snapshot, prefix, null, limit);
+            cached = new CachedState(version, json.toByteArray());
+            cachedState.set(cached);
+        }
+        ctx.result(cached.json());
+    }
+
+    private void writeStatePage(OutputStream out, ScheduleSnapshot snapshot, String prefix, String cursor, int limit) throws IOException {
+        var names = snapshot.findParticipantNamesByPrefix(prefix, cursor, limit + 1);
+        var page = names.size() > limit ? names.subList(0, limit) : names;
+        var nextCursor = names.size() > limit ? page.get(limit - 1) : null;
+        var total = snapshot.countParticipants();
+        var schedules = page.isEmpty() ? Map.<String, Schedule>of() : snapshot.findAllByParticipants(page);
+
+        try (var json = JSON_MAPPER.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeBooleanField("hasData", total > 0);
+            json.writeNumberField("total", total);
+            json.writeArrayFieldStart("participants");
+            for (var name : page) {
+                json.writeString(name);
             }
-            var busySlotsMap = participants.stream()
-                    .collect(Collectors.toMap(
-                            name -> name,
-                            name -> repository.findByParticipant(name)
-                                    .map(schedule -> schedule.busySlots().stream()
-                                            .map(BusySlotResponse::from)
-                                            .toList())
-                                    .orElse(List.of())
-                    ));
-            ctx.json(Map.of("hasData", true, "participants", participants, "busySlots", busySlotsMap));
-        } finally {
-            dataLock.readLock().unlock();
+            json.writeEndArray();
+            json.writeObjectFieldStart("busySlots");
+            for (var name : page) {
+                json.writeArrayFieldStart(name);
+                var schedule = schedules.get(name);
+                if (schedule != null) {
+                    for (var slot : schedule.busySlots()) {
+                        json.writeStartObject();
+                        json.writeStringField("start", slot.start().toString());
+                        json.writeStringField("end", slot.end().toString());
+                        json.writeEndObject();
+                    }
+                }
+                json.writeEndArray();
+            }
+            json.writeEndObject();
+            json.writeStringField("nextCursor", nextCursor);
+            json.writeEndObject();
         }
     }
 
-    private void clearState(Context ctx) {
-        dataLock.writeLock().lock();
-        try {
-            repository.clear();
-            ctx.json(Map.of("success", true));
-        } finally {
-            dataLock.writeLock().unlock();
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (var candidate : ifNoneMatch.split(",")) {
+            var tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private void participants(Context ctx) {
+        var prefix = ctx.queryParamAsClass("prefix", String.class).getOrDefault("");
+        var limit = ctx.queryParamAsClass("limit", Integer.class).getOrDefault(MAX_PARTICIPANTS);
+        if (prefix.length() > Constants.MAX_NAME_LENGTH) {
+            throw new ValidationException("Prefix too long");
+        }
+        if (limit < 1 || limit > MAX_PARTICIPANTS) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_PARTICIPANTS);
+        }
+        var snapshot = repository.snapshot();
+        var names = snapshot.findParticipantNamesByPrefix(prefix, null, limit);
+        ctx.json(Map.of("participants", names, "total", snapshot.countParticipants()));
+    }
+
+    private void clearState(Context ctx) {
+        repository.clear();
+        bitmapIndex.clear();
+        ctx.json(Map.of("success", true));
     }
 
     private void uploadWithSSE(Context ctx) {
-        UploadedFile file = ctx.uploadedFile("file");
-        if (file == null) {
-            ctx.status(400).json(Map.of("error", "No file uploaded"));
-            return;
+        String filename;
+        long size;
+        InputStream content;
+        var contentType = ctx.contentType();
+        if (contentType != null && contentType.startsWith("text/csv")) {
+            filename = ctx.header("X-Filename");
+            size = ctx.req().getContentLengthLong();
+            content = null;
+        } else {
+            UploadedFile file = ctx.uploadedFile("file");
+            if (file == null) {
+                ctx.status(400).json(Map.of("error", "No file uploaded"));
+                return;
+            }
+            filename = file.filename();
+            size = file.size();
+            content = file.content();
         }
 
-        var filename = file.filename().toLowerCase();
-        if (!filename.endsWith(".csv")) {
+        if (filename == null || !filename.toLowerCase().endsWith(".csv")) {
             ctx.status(400).json(Map.of("error", "Only CSV files are allowed"));
             return;
         }
 
-        if (file.size() > MAX_FILE_SIZE) {
+        if (size > MAX_FILE_SIZE) {
             ctx.status(400).json(Map.of("error", "File too large (max 5MB)"));
             return;
         }
 
-        Path temp;
-        try {
-            temp = Files.createTempFile("calendar", ".csv");
-            try (InputStream in = file.content();
-                 OutputStream out = Files.newOutputStream(temp)) {
-                in.transferTo(out);
-            }
-        } catch (IOException e) {
-            ctx.status(500).json(Map.of("error", "Failed to save file"));
-            return;
-        }
-
         ctx.contentType("text/event-stream");
         ctx.header("Cache-Control", "no-cache");
         ctx.header("Connection", "keep-alive");
         ctx.header("X-Accel-Buffering", "no");
 
-        try {
+        try (var in = new SizeLimitedInputStream(content != null ? content : ctx.req().getInputStream(), MAX_FILE_SIZE)) {
             sendSSE(ctx, "progress", "{\"message\":\"Parsing CSV file...\"}");
 
-            var schedules = parser.parseAndBuildSchedules(temp);
+            var parsed = new long[2];
+            var parseStart = System.nanoTime();
+            var schedules = parser.parseAndBuildSchedules(in, (bytesRead, eventsRead, participants) -> {
+                parsed[0] = bytesRead;
+                parsed[1] = eventsRead;
+                sendProgress(ctx, "Parsed %,d events (%,d KB), %,d participants".formatted(eventsRead, bytesRead / 1024, participants));
+            });
+            uploadParseSeconds.labels().observeNanos(System.nanoTime() - parseStart);
+            uploadBytes.inc(parsed[0]);
+            uploadEvents.inc(parsed[1]);
 
             sendSSE(ctx, "progress", "{\"message\":\"Found " + schedules.size() + " participants\"}");
 
             sendSSE(ctx, "progress", "{\"message\":\"Saving schedules...\"}");
 
-            dataLock.writeLock().lock();
-            try {
-                repository.clear();
-                schedules.values().forEach(repository::save);
-            } finally {
-                dataLock.writeLock().unlock();
+            repository.replaceAll(schedules);
+            bitmapIndex.clear();
+            if (bitsetEngine) {
+                bitmapIndex.index(schedules.values());
             }
 
-            sendSSE(ctx, "progress", "{\"message\":\"Building response...\"}");
-
-            var busySlotsMap = schedules.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            entry -> entry.getValue().busySlots().stream()
-                                    .map(BusySlotResponse::from)
-                                    .toList()
-                    ));
-            var participants = schedules.keySet().stream().sorted().toList();
-
-            var result = new UploadResponse(participants, busySlotsMap);
+            var result = new UploadResponse(schedules.size());
             sendSSE(ctx, "done", JSON_MAPPER.writeValueAsString(result));
 
         } catch (Exception e) {
@@ -193,8 +367,14 @@ public class WebApp {
                 var errorJson = JSON_MAPPER.writeValueAsString(Map.of("error", e.getMessage() != null ? e.getMessage() : "Unknown error"));
                 sendSSE(ctx, "error", errorJson);
             } catch (IOException ignored) {}
-        } finally {
-            deleteTempFile(temp);
+        }
+    }
+
+    private void sendProgress(Context ctx, String message) {
+        try {
+            sendSSE(ctx, "progress", JSON_MAPPER.writeValueAsString(Map.of("message", message)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -212,13 +392,111 @@ public class WebApp {
 
         var duration = Duration.ofMinutes(body.durationMinutes());
 
-        var slots = withReadLock(() -> service.findAvailableSlots(body.participants(), duration));
+        var slots = service.findAvailableSlots(body.participants(), duration);
         var startTimes = slots.stream().map(TimeSlot::start).map(Object::toString).toList();
         ctx.json(Map.of("slots", startTimes));
     }
 
     private void meetingRequest(Context ctx) {
-        var body = ctx.bodyAsClass(MeetingRequest.class);
+        var query = toMeetingQuery(ctx.bodyAsClass(MeetingRequest.class));
+
+        var limit = ctx.queryParamAsClass("limit", Integer.class).allowNullable().get();
+        if (limit != null && limit < 1) {
+            throw new ValidationException("Limit must be positive");
+        }
+
+        var requestService = createService(query.blackoutPeriods(), query.bufferBetweenMeetings());
+        var slots = limit != null
+                ? requestService.findBestSlots(query.requiredParticipants(), query.optionalParticipants(), query.meetingDuration(), limit)
+                : requestService.findAvailableSlots(query.requiredParticipants(), query.optionalParticipants(), query.meetingDuration());
+        var result = slots.stream().map(SlotResponse::from).toList();
+        if (!result.isEmpty()) {
+            ctx.json(Map.of("slots", result));
+            return;
+        }
+        var suggestions = requestService.findLeastConflictSlots(query.requiredParticipants(), query.meetingDuration(), SUGGESTION_COUNT);
+        ctx.json(Map.of("slots", result, "suggestions", suggestions.stream().map(SuggestionResponse::from).toList()));
+    }
+
+    private void meetingRequestDurations(Context ctx) {
+        var body = ctx.bodyAsClass(DurationsMeetingRequest.class);
+        validateDurationOptions(body.durationsMinutes());
+        var query = toMeetingQuery(new MeetingRequest(body.required(), body.optional(), body.durationsMinutes().get(0),
+                body.bufferMinutes(), body.blackouts()));
+
+        var durations = body.durationsMinutes().stream().map(Duration::ofMinutes).toList();
+        var requestService = createService(query.blackoutPeriods(), query.bufferBetweenMeetings());
+        var computed = requestService.findAvailableSlotsByDuration(query.requiredParticipants(), query.optionalParticipants(), durations);
+
+        var results = new LinkedHashMap<String, Map<String, Object>>();
+        computed.forEach((duration, slots) -> {
+            var result = slots.stream().map(SlotResponse::from).toList();
+            if (!result.isEmpty()) {
+                results.put(String.valueOf(duration.toMinutes()), Map.of("slots", result));
+                return;
+            }
+            var suggestions = requestService.findLeastConflictSlots(query.requiredParticipants(), duration, SUGGESTION_COUNT);
+            results.put(String.valueOf(duration.toMinutes()),
+                    Map.of("slots", result, "suggestions", suggestions.stream().map(SuggestionResponse::from).toList()));
+        });
+        ctx.json(Map.of("results", results));
+    }
+
+    private void meetingRequestBatch(Context ctx) {
+        var body = ctx.bodyAsClass(BatchMeetingRequest.class);
+        if (body.requests() == null || body.requests().isEmpty()) {
+            throw new ValidationException("At least one meeting request is required");
+        }
+        if (body.requests().size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Too many meeting requests (max " + MAX_BATCH_SIZE + ")");
+        }
+
+        var results = new ArrayList<Map<String, Object>>(body.requests().size());
+        var queries = new ArrayList<MeetingQuery>();
+        var positions = new ArrayList<Integer>();
+        for (int i = 0; i < body.requests().size(); i++) {
+            try {
+                queries.add(toMeetingQuery(body.requests().get(i)));
+                positions.add(i);
+                results.add(null);
+            } catch (ValidationException | SchedulerException | DateTimeParseException e) {
+                results.add(Map.of("error", e.getMessage()));
+            }
+        }
+
+        var computed = queries.isEmpty() ? List.<MeetingQueryResult>of() : service.findAvailableSlots(queries);
+        for (int j = 0; j < computed.size(); j++) {
+            var result = computed.get(j);
+            results.set(positions.get(j), result.isSuccess()
+                    ? Map.of("slots", result.slots().stream().map(SlotResponse::from).toList())
+                    : Map.of("error", result.error().getMessage()));
+        }
+        ctx.json(Map.of("results", results));
+    }
+
+    private void quorumRequest(Context ctx) {
+        var body = ctx.bodyAsClass(QuorumRequest.class);
+        var required = body.required() != null ? body.required() : List.<String>of();
+        validateParticipantList(required, "required participants", false);
+        validatePool(body.pool());
+        if (body.quorum() < 1 || body.quorum() > body.pool().size()) {
+            throw new ValidationException("Quorum must be between 1 and the pool size (" + body.pool().size() + ")");
+        }
+        validateNoOverlap(required, body.pool());
+        validateDuration(body.durationMinutes());
+        validateBuffer(body.bufferMinutes());
+        validateBlackouts(body.blackouts());
+
+        var buffer = body.bufferMinutes() > 0 ? Duration.ofMinutes(body.bufferMinutes()) : null;
+        var requestService = createService(parseBlackouts(body.blackouts()), buffer);
+        var slots = requestService.findQuorumSlots(required, body.pool(), body.quorum(), Duration.ofMinutes(body.durationMinutes()));
+        ctx.json(Map.of("slots", slots.stream().map(QuorumSlotResponse::from).toList()));
+    }
+
+    private MeetingQuery toMeetingQuery(MeetingRequest body) {
+        if (body == null) {
+            throw new ValidationException("Meeting request cannot be empty");
+        }
         var optional = body.optional() != null ? body.optional() : List.<String>of();
 
         validateParticipantList(body.required(), "required participants", true);
@@ -233,10 +511,7 @@ public class WebApp {
         var buffer = body.bufferMinutes() > 0 ? Duration.ofMinutes(body.bufferMinutes()) : null;
         var blackouts = parseBlackouts(body.blackouts());
 
-        var requestService = new DefaultSchedulingService(repository, blackouts, buffer);
-        var slots = withReadLock(() -> requestService.findAvailableSlots(body.required(), optional, duration));
-        var result = slots.stream().map(SlotResponse::from).toList();
-        ctx.json(Map.of("slots", result));
+        return new MeetingQuery(body.required(), optional, duration, buffer, blackouts);
     }
 
     private List<TimeSlot> parseBlackouts(List<BlackoutRequest> blackouts) {
@@ -248,15 +523,6 @@ public class WebApp {
                 .toList();
     }
 
-    private <T> T withReadLock(Supplier<T> action) {
-        dataLock.readLock().lock();
-        try {
-            return action.get();
-        } finally {
-            dataLock.readLock().unlock();
-        }
-    }
-
     private void validateParticipantList(List<String> participants, String fieldName, boolean required) {
         if (participants == null || participants.isEmpty()) {
             if (required) {
@@ -276,6 +542,19 @@ public class WebApp {
         participants.forEach(this::validateParticipantName);
     }
 
+    private void validatePool(List<String> pool) {
+        if (pool == null || pool.isEmpty()) {
+            throw new ValidationException("Pool cannot be empty");
+        }
+        if (pool.size() > MAX_POOL_SIZE) {
+            throw new ValidationException("Too many pool participants (max " + MAX_POOL_SIZE + ")");
+        }
+        if (pool.size() != Set.copyOf(pool).size()) {
+            throw new ValidationException("Duplicate pool participants not allowed");
+        }
+        pool.forEach(this::validateParticipantName);
+    }
+
     private void validateParticipantName(String name) {
         if (name == null || name.isBlank()) {
             throw new ValidationException("Participant name cannot be empty");
@@ -299,6 +578,22 @@ public class WebApp {
         }
     }
 
+    private void validateDurationOptions(List<Integer> durationsMinutes) {
+        if (durationsMinutes == null || durationsMinutes.isEmpty()) {
+            throw new ValidationException("At least one duration is required");
+        }
+        if (durationsMinutes.size() > MAX_DURATION_OPTIONS) {
+            throw new ValidationException("Too many durations (max " + MAX_DURATION_OPTIONS + ")");
+        }
+        if (durationsMinutes.contains(null)) {
+            throw new ValidationException("Duration cannot be empty");
+        }
+        if (durationsMinutes.size() != Set.copyOf(durationsMinutes).size()) {
+            throw new ValidationException("Duplicate durations not allowed");
+        }
+        durationsMinutes.forEach(this::validateDuration);
+    }
+
     private void validateBuffer(int bufferMinutes) {
         if (bufferMinutes != 0 && (bufferMinutes < MIN_BUFFER_MINUTES || bufferMinutes > MAX_BUFFER_MINUTES)) {
             throw new ValidationException("Buffer must be 0 or between " + MIN_BUFFER_MINUTES + " and " + MAX_BUFFER_MINUTES + " minutes");
@@ -334,19 +629,17 @@ public class WebApp {
         }
     }
 
-    private void deleteTempFile(Path temp) {
-        if (temp != null) {
-            try {
-                Files.deleteIfExists(temp);
-            } catch (IOException ignored) {
-            }
-        }
-    }
-
     record AvailabilityRequest(List<String> participants, int durationMinutes) {}
 
     record MeetingRequest(List<String> required, List<String> optional, int durationMinutes, int bufferMinutes, List<BlackoutRequest> blackouts) {}
 
+    record BatchMeetingRequest(List<MeetingRequest> requests) {}
+
+    record DurationsMeetingRequest(List<String> required, List<String> optional, List<Integer> durationsMinutes, int bufferMinutes,
+                                   List<BlackoutRequest> blackouts) {}
+
+    record QuorumRequest(List<String> required, List<String> pool, int quorum, int durationMinutes, int bufferMinutes, List<BlackoutRequest> blackouts) {}
+
     record BlackoutRequest(String start, String end) {}
 
     record SlotResponse(String start, String end, List<String> availableOptional, List<String> unavailableOptional) {
@@ -360,13 +653,57 @@ public class WebApp {
         }
     }
 
-    record BusySlotResponse(String start, String end) {
-        static BusySlotResponse from(TimeSlot slot) {
-            return new BusySlotResponse(slot.start().toString(), slot.end().toString());
+    record QuorumSlotResponse(String start, String end, List<String> available) {
+        static QuorumSlotResponse from(QuorumSlot slot) {
+            return new QuorumSlotResponse(slot.timeSlot().start().toString(), slot.timeSlot().end().toString(), slot.availableParticipants());
+        }
+    }
+
+    record SuggestionResponse(String start, String end, List<String> conflicts) {
+        static SuggestionResponse from(ConflictSlot slot) {
+            return new SuggestionResponse(slot.timeSlot().start().toString(), slot.timeSlot().end().toString(), slot.conflictingParticipants());
         }
     }
 
-    record UploadResponse(List<String> participants, Map<String, List<BusySlotResponse>> busySlots) {}
+    private record CachedState(long version, byte[] json) {}
+
+    record UploadResponse(int total) {}
+
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        SizeLimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                checkLimit(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                checkLimit(read);
+            }
+            return read;
+        }
+
+        private void checkLimit(int read) {
+            count += read;
+            if (count > limit) {
+                throw new ValidationException("File too large (max 5MB)");
+            }
+        }
+    }
 
     private static class ValidationException extends RuntimeException {
         private static final long serialVersionUID = 1L;
@@ -1,29 +1,101 @@
 let busySlots = {};
 let allParticipants = [];
+let totalParticipants = 0;
+let nextCursor = null;
+let pageRequest = null;
+let stateGeneration = 0;
+let highlightedSlots = [];
+let sentinelObserver = null;
 let blackouts = [];
+let slotResults = null;
 const START_HOUR = 7, END_HOUR = 19;
 
-// Load state on page load
-document.addEventListener('DOMContentLoaded', loadState);
+// Load state on page load, then fetch further pages as the lists scroll
+document.addEventListener('DOMContentLoaded', () => {
+    sentinelObserver = new IntersectionObserver(entries => {
+        if (entries.some(e => e.isIntersecting)) loadNextPage();
+    });
+    sentinelObserver.observe(document.getElementById('timeline-sentinel'));
+    document.querySelectorAll('.participant-list').forEach(list => {
+        list.addEventListener('scroll', () => {
+            if (list.scrollTop + list.clientHeight >= list.scrollHeight - 40) loadNextPage();
+        });
+    });
+    document.getElementById('duration').addEventListener('change', () => {
+        if (slotResults && slotResults.key === slotRequestKey()) renderSlotResults();
+    });
+    loadState();
+});
 
 async function loadState() {
+    // Pages still in flight from an earlier load belong to the previous dataset and are dropped when they arrive
+    const generation = ++stateGeneration;
+    busySlots = {};
+    slotResults = null;
+    allParticipants = [];
+    nextCursor = null;
+    pageRequest = null;
+    highlightedSlots = [];
+    document.getElementById('required-list').innerHTML = '';
+    document.getElementById('optional-list').innerHTML = '';
+    renderTimeline([]);
     try {
-        const res = await fetch('/api/state');
-        const data = await res.json();
+        const data = await fetchPage(null);
+        if (generation !== stateGeneration) return;
         if (data.hasData) {
-            handleUploadComplete(data);
+            showCalendar();
+            appendPage(data);
         }
     } catch (e) {
         console.error('Failed to load state:', e);
     }
 }
 
+async function fetchPage(cursor) {
+    // The server's default page size keeps the first page on its cached response
+    const res = await fetch(cursor ? '/api/state?' + new URLSearchParams({ cursor }) : '/api/state');
+    if (!res.ok) throw new Error(`Server error: ${res.status}`);
+    return res.json();
+}
+
+function loadNextPage() {
+    if (!nextCursor || pageRequest) return;
+    const generation = stateGeneration;
+    const request = fetchPage(nextCursor)
+        .then(data => { if (generation === stateGeneration) appendPage(data); })
+        .catch(e => console.error('Failed to load participants:', e))
+        .finally(() => { if (pageRequest === request) pageRequest = null; });
+    pageRequest = request;
+}
+
+function appendPage(data) {
+    Object.assign(busySlots, data.busySlots);
+    allParticipants.push(...data.participants);
+    totalParticipants = data.total;
+    nextCursor = data.nextCursor;
+    document.getElementById('participant-count').textContent = allParticipants.length < totalParticipants
+        ? `${allParticipants.length} of ${totalParticipants} participants`
+        : `${totalParticipants} participants`;
+    appendParticipantLists(data.participants);
+    appendTimelineRows(data.participants);
+    if (nextCursor) {
+        // Re-observing reports the current intersection, so a short page that leaves the sentinel visible keeps loading
+        const sentinel = document.getElementById('timeline-sentinel');
+        sentinelObserver.unobserve(sentinel);
+        sentinelObserver.observe(sentinel);
+    }
+}
+
 async function clearCache() {
     if (!confirm('Clear all calendar data?')) return;
     try {
         await fetch('/api/state', { method: 'DELETE' });
+        stateGeneration++;
         busySlots = {};
+        slotResults = null;
         allParticipants = [];
+        nextCursor = null;
+        pageRequest = null;
         document.getElementById('timeline-card').style.display = 'none';
         document.getElementById('settings-card').style.display = 'none';
         document.getElementById('config').style.display = 'none';
@@ -73,28 +145,30 @@ function renderBlackouts() {
 }
 
 // Participant management
-function renderParticipantLists() {
+function appendParticipantLists(names) {
     const requiredList = document.getElementById('required-list');
     const optionalList = document.getElementById('optional-list');
 
-    requiredList.innerHTML = allParticipants.map(p => `
+    requiredList.insertAdjacentHTML('beforeend', names.map(p => `
         <label class="participant-item">
             <input type="checkbox" name="required" value="${escapeHtml(p)}" data-participant="${escapeHtml(p)}" aria-label="Required: ${escapeHtml(p)}">
             <span>${escapeHtml(p)}</span>
         </label>
-    `).join('');
+    `).join(''));
 
-    optionalList.innerHTML = allParticipants.map(p => `
+    optionalList.insertAdjacentHTML('beforeend', names.map(p => `
         <label class="participant-item">
             <input type="checkbox" name="optional" value="${escapeHtml(p)}" data-participant="${escapeHtml(p)}" aria-label="Optional: ${escapeHtml(p)}">
             <span>${escapeHtml(p)}</span>
         </label>
-    `).join('');
+    `).join(''));
 
-    requiredList.querySelectorAll('input').forEach(cb => {
+    requiredList.querySelectorAll('input:not([data-bound])').forEach(cb => {
+        cb.dataset.bound = 'true';
         cb.addEventListener('change', () => toggleParticipant(cb.value, 'required'));
     });
-    optionalList.querySelectorAll('input').forEach(cb => {
+    optionalList.querySelectorAll('input:not([data-bound])').forEach(cb => {
+        cb.dataset.bound = 'true';
         cb.addEventListener('change', () => toggleParticipant(cb.value, 'optional'));
     });
 }
@@ -120,34 +194,22 @@ function toggleParticipant(name, type) {
 
 // Timeline rendering
 function updateTimeline() {
-    const required = [...document.querySelectorAll('#required-list input:checked')].map(c => c.value);
-    const optional = [...document.querySelectorAll('#optional-list input:checked')].map(c => c.value);
-    renderTimeline(allParticipants, required, optional);
+    highlightedSlots = [];
+    renderTimeline(allParticipants);
+}
+
+function selectedParticipants() {
+    return {
+        required: [...document.querySelectorAll('#required-list input:checked')].map(c => c.value),
+        optional: [...document.querySelectorAll('#optional-list input:checked')].map(c => c.value)
+    };
 }
 
-function renderTimeline(participants, required = [], optional = []) {
+function renderTimeline(participants) {
     const hours = Array.from({length: END_HOUR - START_HOUR + 1}, (_, i) => String(START_HOUR + i).padStart(2, '0'));
     let html = '<div class="timeline">';
     html += '<div class="timeline-header">' + hours.map(h => `<span>${h}</span>`).join('') + '</div>';
-
-    participants.forEach(name => {
-        const slots = busySlots[name] || [];
-        const safeName = escapeHtml(name);
-        const isRequired = required.includes(name);
-        const isOptional = optional.includes(name);
-        const nameClass = isRequired ? 'required' : (isOptional ? 'optional' : '');
-
-        html += `<div class="person-row">
-            <div class="person-name ${nameClass}" title="${safeName}">${safeName}</div>
-            <div class="day-bar">`;
-        slots.forEach(slot => {
-            const left = timeToPercent(slot.start);
-            const width = timeToPercent(slot.end) - left;
-            html += `<div class="busy-block" style="left:${left}%;width:${width}%"></div>`;
-        });
-        html += '</div></div>';
-    });
-
+    html += timelineRows(participants);
     html += '</div>';
     html += '<div class="legend">';
     html += '<div class="legend-item"><div class="legend-box" style="background:linear-gradient(to right, #d1fae5, #a7f3d0)"></div>Free</div>';
@@ -157,6 +219,30 @@ function renderTimeline(participants, required = [], optional = []) {
     document.getElementById('timeline').innerHTML = html;
 }
 
+// Lazy-loaded pages add their own rows instead of rebuilding the whole timeline
+function appendTimelineRows(participants) {
+    document.querySelector('#timeline .timeline').insertAdjacentHTML('beforeend', timelineRows(participants));
+}
+
+function timelineRows(participants) {
+    const { required, optional } = selectedParticipants();
+    return participants.map(name => {
+        const safeName = escapeHtml(name);
+        const nameClass = required.includes(name) ? 'required' : (optional.includes(name) ? 'optional' : '');
+        const busy = (busySlots[name] || []).map(slot => timeBlock('busy-block', slot)).join('');
+        const available = highlightedSlots.map(slot => timeBlock('available-block', slot)).join('');
+        return `<div class="person-row">
+            <div class="person-name ${nameClass}" title="${safeName}">${safeName}</div>
+            <div class="day-bar">${busy}${available}</div></div>`;
+    }).join('');
+}
+
+function timeBlock(className, slot) {
+    const left = timeToPercent(slot.start);
+    const width = timeToPercent(slot.end) - left;
+    return `<div class="${className}" style="left:${left}%;width:${width}%"></div>`;
+}
+
 function timeToPercent(timeStr) {
     const [h, m] = timeStr.split(':').map(Number);
     const totalMinutes = (h - START_HOUR) * 60 + m;
@@ -165,6 +251,7 @@ function timeToPercent(timeStr) {
 }
 
 function highlightSlots(slots) {
+    highlightedSlots = slots;
     document.querySelectorAll('.available-block').forEach(el => el.remove());
     slots.forEach(slot => {
         document.querySelectorAll('.day-bar').forEach(bar => {
@@ -183,8 +270,6 @@ async function upload() {
     const file = document.getElementById('file').files[0];
     if (!file) return alert('Select a file first');
 
-    const form = new FormData();
-    form.append('file', file);
     const uploadBtn = document.querySelector('button[onclick="upload()"]');
     const originalText = uploadBtn.textContent;
 
@@ -192,7 +277,11 @@ async function upload() {
     uploadBtn.textContent = 'Uploading...';
 
     try {
-        const res = await fetch('/api/upload', { method: 'POST', body: form });
+        const res = await fetch('/api/upload', {
+            method: 'POST',
+            headers: { 'Content-Type': 'text/csv', 'X-Filename': encodeURIComponent(file.name) },
+            body: file
+        });
 
         // Validation errors return JSON, not SSE
         const contentType = res.headers.get('content-type') || '';
@@ -226,7 +315,7 @@ async function upload() {
                 if (eventType === 'progress') {
                     uploadBtn.textContent = JSON.parse(eventData).message;
                 } else if (eventType === 'done') {
-                    handleUploadComplete(JSON.parse(eventData));
+                    await loadState();
                 } else if (eventType === 'error') {
                     throw new Error(JSON.parse(eventData).error);
                 }
@@ -240,64 +329,86 @@ async function upload() {
     }
 }
 
-function handleUploadComplete(data) {
-    busySlots = data.busySlots;
-    allParticipants = data.participants;
-    document.getElementById('participant-count').textContent = `${allParticipants.length} participants`;
+function showCalendar() {
     document.getElementById('timeline-card').style.display = 'block';
     document.getElementById('settings-card').style.display = 'block';
     document.getElementById('config').style.display = 'block';
     document.getElementById('clear-btn').style.display = 'inline-block';
     document.getElementById('results').innerHTML = '';
     renderBlackouts();
-    renderParticipantLists();
-    renderTimeline(data.participants);
 }
 
-// Find available slots
+// Find available slots for every duration option at once; switching duration re-renders from the cached results
+function slotRequest() {
+    return {
+        required: [...document.querySelectorAll('#required-list input:checked')].map(c => c.value),
+        optional: [...document.querySelectorAll('#optional-list input:checked')].map(c => c.value),
+        bufferMinutes: +document.getElementById('buffer').value,
+        blackouts
+    };
+}
+
+function slotRequestKey() {
+    return JSON.stringify(slotRequest());
+}
+
 async function findSlots() {
-    const required = [...document.querySelectorAll('#required-list input:checked')].map(c => c.value);
-    const optional = [...document.querySelectorAll('#optional-list input:checked')].map(c => c.value);
+    const request = slotRequest();
 
-    if (required.length < 2) {
+    if (request.required.length < 2) {
         return alert('Select at least 2 required participants');
     }
 
     try {
-        const res = await fetch('/api/meeting-request', {
+        const res = await fetch('/api/meeting-request/durations', {
             method: 'POST',
             headers: { 'Content-Type': 'application/json' },
             body: JSON.stringify({
-                required,
-                optional,
-                durationMinutes: +document.getElementById('duration').value,
-                bufferMinutes: +document.getElementById('buffer').value,
-                blackouts
+                ...request,
+                durationsMinutes: [...document.querySelectorAll('#duration option')].map(o => +o.value)
             })
         });
         if (!res.ok) throw new Error(`Server error: ${res.status}`);
         const data = await res.json();
 
-        if (data.slots.length) {
-            let html = `<div class="slots-header">Found ${data.slots.length} available slot(s) for ${required.length} required participant(s):</div>`;
-            data.slots.forEach(slot => {
+        slotResults = { key: JSON.stringify(request), required: request.required.length, results: data.results };
+        renderSlotResults();
+    } catch (e) {
+        slotResults = null;
+        document.getElementById('results').innerHTML = '<p class="error">Request failed: ' + escapeHtml(e.message) + '</p>';
+    }
+}
+
+function renderSlotResults() {
+    const data = slotResults.results[document.getElementById('duration').value];
+
+    if (data.slots.length) {
+        let html = `<div class="slots-header">Found ${data.slots.length} available slot(s) for ${slotResults.required} required participant(s):</div>`;
+        data.slots.forEach(slot => {
+            html += `<div class="slot-card">
+                <div class="slot-time">${escapeHtml(slot.start)}</div>
+                <div class="slot-attendees">`;
+            if (slot.availableOptional.length > 0) {
+                html += `<span class="available">✓ ${slot.availableOptional.map(escapeHtml).join(', ')}</span>`;
+            }
+            if (slot.unavailableOptional.length > 0) {
+                html += ` <span class="unavailable">✗ ${slot.unavailableOptional.map(escapeHtml).join(', ')}</span>`;
+            }
+            html += `</div></div>`;
+        });
+        document.getElementById('results').innerHTML = html;
+    } else {
+        let html = '<p class="no-slots">No available slots found for all required participants</p>';
+        if (data.suggestions && data.suggestions.length) {
+            html += '<div class="slots-header">Closest options:</div>';
+            data.suggestions.forEach(slot => {
                 html += `<div class="slot-card">
                     <div class="slot-time">${escapeHtml(slot.start)}</div>
-                    <div class="slot-attendees">`;
-                if (slot.availableOptional.length > 0) {
-                    html += `<span class="available">✓ ${slot.availableOptional.map(escapeHtml).join(', ')}</span>`;
-                }
-                if (slot.unavailableOptional.length > 0) {
-                    html += ` <span class="unavailable">✗ ${slot.unavailableOptional.map(escapeHtml).join(', ')}</span>`;
-                }
-                html += `</div></div>`;
+                    <div class="slot-attendees"><span class="unavailable">✗ ${slot.conflicts.map(escapeHtml).join(', ')}</span></div>
+                </div>`;
             });
-            document.getElementById('results').innerHTML = html;
-        } else {
-            document.getElementById('results').innerHTML = '<p class="no-slots">No available slots found for all required participants</p>';
         }
-        highlightSlots(data.slots);
-    } catch (e) {
-        document.getElementById('results').innerHTML = '<p class="error">Request failed: ' + escapeHtml(e.message) + '</p>';
+        document.getElementById('results').innerHTML = html;
     }
+    highlightSlots(data.slots);
 }